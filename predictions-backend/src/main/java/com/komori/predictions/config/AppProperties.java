@@ -13,4 +13,6 @@ import org.springframework.stereotype.Component;
 @ConfigurationProperties(prefix = "app")
 public class AppProperties {
     private String frontendUrl;
+    private String leagueCodeKey;
+    private String season;
 }
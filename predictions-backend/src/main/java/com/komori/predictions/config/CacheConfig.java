@@ -0,0 +1,47 @@
+package com.komori.predictions.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.komori.predictions.dto.response.LeagueStanding;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String LEAGUE_STANDINGS = "leagueStandings"; // League uuid -> LeagueStanding
+    public static final String USER_LEAGUES = "userLeagues"; // User email -> Set<LeagueSummary>
+    public static final String TOKEN_VERSIONS = "tokenVersions"; // User id -> token version
+    private static final long MAX_CACHED_STANDING_ROWS = 250_000;
+
+    // Caches are registered up front so actuator binds their cache.gets (hit/miss) and cache.evictions metrics
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(LEAGUE_STANDINGS, Caffeine.newBuilder()
+                // Bounded by total rows across cached tables (a few hundred bytes each), not by table count,
+                // since one 50k-member league weighs as much as thousands of small ones
+                .maximumWeight(MAX_CACHED_STANDING_ROWS)
+                .weigher((Object uuid, Object standing) ->
+                        1 + ((standing instanceof LeagueStanding table && table.getStandings() != null)
+                                ? table.getStandings().size() : 0))
+                .expireAfterWrite(Duration.ofMinutes(5))
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(USER_LEAGUES, Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(60)) // Bounds how stale other members' counts can get
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache(TOKEN_VERSIONS, Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(60)) // Bounds how long another instance accepts revoked tokens
+                .recordStats()
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,36 @@
+package com.komori.predictions.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private long maxKeys = 100_000; // Buckets held at once across all endpoints
+    // Reverse proxies (IPs or CIDRs) whose X-Forwarded-For hops are believed; with none, the socket peer is the client
+    private List<String> trustedProxies = new ArrayList<>();
+    private Map<String, Limit> endpoints = new LinkedHashMap<>(); // Servlet path, e.g. /auth/login -> limit
+
+    // Token buckets: each key may burst up to its capacity, refilling to full over "period". 0 disables that key.
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Limit {
+        private int emailCapacity;
+        private int ipCapacity;
+        private Duration period = Duration.ofMinutes(15);
+    }
+}
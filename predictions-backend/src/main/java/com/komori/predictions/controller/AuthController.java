@@ -4,8 +4,11 @@ import com.komori.predictions.dto.request.LoginRequest;
 import com.komori.predictions.dto.request.RegistrationRequest;
 import com.komori.predictions.dto.response.OtpResponse;
 import com.komori.predictions.dto.response.RegistrationResponse;
+import com.komori.predictions.entity.UserEntity;
 import com.komori.predictions.security.JwtUtil;
 import com.komori.predictions.service.AuthService;
+import com.komori.predictions.service.RefreshTokenService;
+import com.komori.predictions.service.TokenVersionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -16,6 +19,10 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -23,14 +30,16 @@ public class AuthController {
     private final AuthService authService;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenVersionService tokenVersionService;
+    private final RefreshTokenService refreshTokenService;
 
     @PostMapping("/login")
     public ResponseEntity<String> login(@Valid @RequestBody LoginRequest loginRequest) {
         authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
-        authService.checkVerifiedStatus(loginRequest.getEmail());
+        UserEntity user = authService.checkVerifiedStatus(loginRequest.getEmail());
 
-        ResponseCookie accessCookie = jwtUtil.createAccessTokenCookie(loginRequest.getEmail());
-        ResponseCookie refreshCookie = jwtUtil.createRefreshTokenCookie(loginRequest.getEmail());
+        ResponseCookie accessCookie = jwtUtil.createAccessTokenCookie(user.getId(), user.getEmail(), user.getTokenVersion());
+        ResponseCookie refreshCookie = jwtUtil.createRefreshTokenCookie(user.getId(), user.getEmail(), user.getTokenVersion());
 
         HttpHeaders cookieHeaders = new HttpHeaders();
         cookieHeaders.add(HttpHeaders.SET_COOKIE, accessCookie.toString());
@@ -60,7 +69,14 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
+    public ResponseEntity<?> logout(@CookieValue(name = "refresh", required = false) String refreshToken) {
+        // Revoke the session's token family so a copied refresh token dies with the logout
+        if (refreshToken != null) {
+            jwtUtil.verify(refreshToken)
+                    .filter(JwtUtil.VerifiedToken::isRefreshToken)
+                    .ifPresent(refreshTokenService::revokeFamily);
+        }
+
         ResponseCookie refreshCookie = ResponseCookie.from("refresh")
                 .httpOnly(true)
                 .path("/")
@@ -69,7 +85,7 @@ public class AuthController {
                 .sameSite("None")
                 .build();
 
-        ResponseCookie accessCookie = ResponseCookie.from("jwt")
+        ResponseCookie accessCookie = ResponseCookie.from("access")
                 .httpOnly(true)
                 .path("/")
                 .secure(true)
@@ -94,15 +110,26 @@ public class AuthController {
                     .status(HttpStatus.UNAUTHORIZED)
                     .body("No refresh token found");
         }
-        if (jwtUtil.isTokenExpired(refreshToken)) {
+        Optional<JwtUtil.VerifiedToken> verified = jwtUtil.verify(refreshToken)
+                .filter(JwtUtil.VerifiedToken::isRefreshToken)
+                .filter(token -> Objects.equals(tokenVersionService.currentVersion(token.userId()), token.tokenVersion()));
+        if (verified.isEmpty()) {
             return ResponseEntity
                     .status(HttpStatus.UNAUTHORIZED)
                     .body("Refresh token expired");
         }
 
-        String email = jwtUtil.extractEmailFromToken(refreshToken);
-        ResponseCookie accessCookie = jwtUtil.createAccessTokenCookie(email);
-        ResponseCookie refreshCookie = jwtUtil.createRefreshTokenCookie(email);
+        JwtUtil.VerifiedToken token = verified.get();
+        Optional<UUID> nextTokenId = refreshTokenService.rotate(token);
+        if (nextTokenId.isEmpty()) {
+            return ResponseEntity
+                    .status(HttpStatus.UNAUTHORIZED)
+                    .body("Refresh token revoked");
+        }
+
+        ResponseCookie accessCookie = jwtUtil.createAccessTokenCookie(token.userId(), token.email(), token.tokenVersion());
+        ResponseCookie refreshCookie = jwtUtil.createRefreshTokenCookie(token.userId(), token.email(), token.tokenVersion(),
+                token.familyId(), nextTokenId.get());
         HttpHeaders headers = new HttpHeaders();
         headers.add(HttpHeaders.SET_COOKIE, accessCookie.toString());
         headers.add(HttpHeaders.SET_COOKIE, refreshCookie.toString());
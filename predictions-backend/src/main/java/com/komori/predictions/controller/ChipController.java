@@ -0,0 +1,22 @@
+package com.komori.predictions.controller;
+
+import com.komori.predictions.dto.response.ChipStatusResponse;
+import com.komori.predictions.service.ChipService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/chips")
+@RequiredArgsConstructor
+public class ChipController {
+    private final ChipService chipService;
+
+    @GetMapping("/status")
+    public ResponseEntity<ChipStatusResponse> getStatus(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(chipService.getStatus(email));
+    }
+}
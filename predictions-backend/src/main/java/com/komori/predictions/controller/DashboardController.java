@@ -0,0 +1,25 @@
+package com.komori.predictions.controller;
+
+import com.komori.predictions.dto.response.DashboardResponse;
+import com.komori.predictions.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+    private final DashboardService dashboardService;
+
+    // Everything the dashboard needs in one request: profile, season, stats, leagues and chips
+    @GetMapping("/me")
+    public ResponseEntity<DashboardResponse> getDashboard(@CurrentSecurityContext(expression = "authentication?.name") String email,
+                                                          @RequestParam(defaultValue = "5") int leagueLimit) {
+        return ResponseEntity.ok().body(dashboardService.getDashboard(email, leagueLimit));
+    }
+}
@@ -0,0 +1,31 @@
+package com.komori.predictions.controller;
+
+import com.komori.predictions.dto.response.GlobalRank;
+import com.komori.predictions.dto.response.StandingEntry;
+import com.komori.predictions.service.GlobalLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/leaderboard")
+@RequiredArgsConstructor
+public class LeaderboardController {
+    private final GlobalLeaderboardService leaderboardService;
+
+    @GetMapping
+    public ResponseEntity<List<StandingEntry>> getTop(@RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok().body(leaderboardService.getTop(top));
+    }
+
+    @GetMapping("/me")
+    public ResponseEntity<GlobalRank> getMyRank(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(leaderboardService.getRank(email));
+    }
+}
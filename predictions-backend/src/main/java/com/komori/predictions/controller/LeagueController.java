@@ -1,15 +1,20 @@
 package com.komori.predictions.controller;
 
+import com.komori.predictions.dto.response.GameweekPosition;
 import com.komori.predictions.dto.response.LeagueStanding;
 import com.komori.predictions.dto.response.LeagueSummary;
+import com.komori.predictions.dto.response.StandingsPage;
 import com.komori.predictions.dto.request.CreateLeagueRequest;
 import com.komori.predictions.service.LeagueService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Set;
 
 @RestController
@@ -24,6 +29,37 @@ public class LeagueController {
         return ResponseEntity.ok().body(standings);
     }
 
+    @GetMapping("/{uuid}/standings")
+    public ResponseEntity<StandingsPage> getStandingsPage(@PathVariable String uuid,
+                                                          @RequestParam(required = false) Integer top,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "50") int limit) {
+        StandingsPage page = (top != null)
+                ? leagueService.getTopStandings(uuid, top)
+                : leagueService.getStandingsPage(uuid, cursor, limit);
+        return ResponseEntity.ok().body(page);
+    }
+
+    @GetMapping("/{uuid}/standings/around-me")
+    public ResponseEntity<StandingsPage> getStandingsAroundMe(@CurrentSecurityContext(expression = "authentication?.name") String email,
+                                                              @PathVariable String uuid,
+                                                              @RequestParam(defaultValue = "5") int neighbours) {
+        StandingsPage page = leagueService.getStandingsAroundUser(email, uuid, neighbours);
+        return ResponseEntity.ok().body(page);
+    }
+
+    @GetMapping("/{uuid}/history")
+    public ResponseEntity<List<GameweekPosition>> getStandingsHistory(@CurrentSecurityContext(expression = "authentication?.name") String email,
+                                                                      @PathVariable String uuid) {
+        List<GameweekPosition> history = leagueService.getStandingsHistory(email, uuid);
+        return ResponseEntity.ok().body(history);
+    }
+
+    @GetMapping(value = "/{uuid}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStandings(@PathVariable String uuid) {
+        return leagueService.subscribeToStandings(uuid);
+    }
+
     @GetMapping
     public ResponseEntity<Set<LeagueSummary>> getLeaguesForUser(@CurrentSecurityContext(expression = "authentication?.name") String email) {
         Set<LeagueSummary> leagues = leagueService.getLeaguesForUser(email);
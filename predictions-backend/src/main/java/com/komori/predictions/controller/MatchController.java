@@ -0,0 +1,36 @@
+package com.komori.predictions.controller;
+
+import com.komori.predictions.dto.response.CalendarFixture;
+import com.komori.predictions.dto.response.NextMatch;
+import com.komori.predictions.service.MatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// Responses are wrapped in "data" as the status bar expects
+@RestController
+@RequestMapping("/matches")
+@RequiredArgsConstructor
+public class MatchController {
+    private final MatchService matchService;
+
+    @GetMapping("/next")
+    public ResponseEntity<Map<String, NextMatch>> getNextMatch() {
+        return ResponseEntity.ok().body(Collections.singletonMap("data", matchService.getNextMatch().orElse(null)));
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, List<CalendarFixture>>> getFixtures(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        return ResponseEntity.ok().body(Map.of("data", matchService.getFixturesBetween(from, to)));
+    }
+}
@@ -3,12 +3,14 @@ package com.komori.predictions.controller;
 import com.komori.predictions.config.AppProperties;
 import com.komori.predictions.dto.request.RegistrationCallbackRequest;
 import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.event.UserRegisteredEvent;
 import com.komori.predictions.repository.UserRepository;
 import com.komori.predictions.security.JwtUtil;
 import com.komori.predictions.service.OAuth2Service;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.*;
 import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.web.bind.annotation.*;
@@ -28,17 +30,13 @@ public class OAuth2Controller {
     private final RestTemplateBuilder restTemplateBuilder;
     private final AppProperties appProperties;
     private final OAuth2Service oAuth2Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     @GetMapping("/login")
     public void login(@RequestHeader(name = "X-Forwarded-Access-Token") String accessToken,
                       @RequestHeader(name = "X-Forwarded-Email") String email,
                       HttpServletResponse response) throws IOException {
-        ResponseCookie access = jwtUtil.createAccessTokenCookie(email);
-        ResponseCookie refresh = jwtUtil.createRefreshTokenCookie(email);
-        response.addHeader(HttpHeaders.SET_COOKIE, access.toString());
-        response.addHeader(HttpHeaders.SET_COOKIE, refresh.toString());
-
         Optional<UserEntity> user = userRepository.findByEmail(email);
         if (user.isEmpty()) { // User Registration
             HttpHeaders header = new HttpHeaders();
@@ -67,9 +65,12 @@ public class OAuth2Controller {
                     .lastName(lastName)
                     .accountVerified(true)
                     .build();
-            userRepository.save(newUser);
+            newUser = userRepository.save(newUser);
+            eventPublisher.publishEvent(new UserRegisteredEvent(newUser.getId()));
+            addTokenCookies(response, newUser); // Tokens carry the user id, so they're issued once the user exists
             response.sendRedirect(appProperties.getFrontendUrl() + "/auth/oauth/callback");
         } else { // User Login
+            addTokenCookies(response, user.get());
             response.sendRedirect(appProperties.getFrontendUrl() + "/dashboard");
         }
     }
@@ -81,4 +82,11 @@ public class OAuth2Controller {
         oAuth2Service.finishRegistration(email, request);
         return ResponseEntity.ok("Registration successful");
     }
+
+    private void addTokenCookies(HttpServletResponse response, UserEntity user) {
+        ResponseCookie access = jwtUtil.createAccessTokenCookie(user.getId(), user.getEmail(), user.getTokenVersion());
+        ResponseCookie refresh = jwtUtil.createRefreshTokenCookie(user.getId(), user.getEmail(), user.getTokenVersion());
+        response.addHeader(HttpHeaders.SET_COOKIE, access.toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, refresh.toString());
+    }
 }
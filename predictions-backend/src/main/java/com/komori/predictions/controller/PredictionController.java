@@ -0,0 +1,40 @@
+package com.komori.predictions.controller;
+
+import com.komori.predictions.dto.request.PredictionRequest;
+import com.komori.predictions.dto.response.PredictionResponse;
+import com.komori.predictions.dto.response.PredictionStatistics;
+import com.komori.predictions.service.PredictionService;
+import com.komori.predictions.service.StatisticsService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/predictions")
+@RequiredArgsConstructor
+public class PredictionController {
+    private final PredictionService predictionService;
+    private final StatisticsService statisticsService;
+
+    @PostMapping("/make-prediction")
+    public ResponseEntity<PredictionResponse> makePrediction(@CurrentSecurityContext(expression = "authentication?.name") String email,
+                                                             @Valid @RequestBody PredictionRequest request) {
+        return ResponseEntity.ok().body(predictionService.submitPredictions(email, List.of(request)).getFirst());
+    }
+
+    // A whole gameweek in one request and one database statement
+    @PostMapping("/make-predictions")
+    public ResponseEntity<List<PredictionResponse>> makePredictions(@CurrentSecurityContext(expression = "authentication?.name") String email,
+                                                                    @RequestBody List<@Valid PredictionRequest> requests) {
+        return ResponseEntity.ok().body(predictionService.submitPredictions(email, requests));
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<PredictionStatistics> getStatistics(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(statisticsService.getPredictionStatistics(email));
+    }
+}
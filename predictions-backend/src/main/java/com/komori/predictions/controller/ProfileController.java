@@ -1,17 +1,29 @@
 package com.komori.predictions.controller;
 
 import com.komori.predictions.dto.request.PasswordChangeRequest;
+import com.komori.predictions.dto.response.MonthlyPerformance;
+import com.komori.predictions.dto.response.StatisticsHighlights;
+import com.komori.predictions.dto.response.TeamPerformance;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.security.JwtUtil;
 import com.komori.predictions.service.ProfileService;
+import com.komori.predictions.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.CurrentSecurityContext;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/profile")
 @RequiredArgsConstructor
 public class ProfileController {
     private final ProfileService profileService;
+    private final StatisticsService statisticsService;
+    private final JwtUtil jwtUtil;
 
     @GetMapping("/home")
     public ResponseEntity<String> viewHomepage(@CurrentSecurityContext(expression = "authentication?.name") String email) {
@@ -27,7 +39,29 @@ public class ProfileController {
 
     @PostMapping("/change-password")
     public ResponseEntity<?> changePassword(@CurrentSecurityContext(expression = "authentication?.name") String email, @RequestBody PasswordChangeRequest request) {
-        profileService.changePassword(email, request.getOldPassword(), request.getNewPassword());
-        return ResponseEntity.ok("Password changed successfully");
+        UserEntity user = profileService.changePassword(email, request.getOldPassword(), request.getNewPassword());
+        // Reissue this session's tokens under the new token version
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.SET_COOKIE, jwtUtil.createAccessTokenCookie(user.getId(), user.getEmail(), user.getTokenVersion()).toString());
+        headers.add(HttpHeaders.SET_COOKIE, jwtUtil.createRefreshTokenCookie(user.getId(), user.getEmail(), user.getTokenVersion()).toString());
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body("Password changed successfully");
+    }
+
+    @GetMapping("/statistics/highlights")
+    public ResponseEntity<StatisticsHighlights> getHighlights(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(statisticsService.getHighlights(email));
+    }
+
+    // Wrapped in "data" as the profile page expects
+    @GetMapping("/statistics/monthly-performance")
+    public ResponseEntity<Map<String, List<MonthlyPerformance>>> getMonthlyPerformance(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(Map.of("data", statisticsService.getMonthlyPerformance(email)));
+    }
+
+    @GetMapping("/statistics/team-performance")
+    public ResponseEntity<Map<String, List<TeamPerformance>>> getTeamPerformance(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(Map.of("data", statisticsService.getTeamPerformance(email)));
     }
 }
@@ -0,0 +1,44 @@
+package com.komori.predictions.controller;
+
+import com.komori.predictions.dto.response.PredictionHistoryPage;
+import com.komori.predictions.dto.response.UserStatistics;
+import com.komori.predictions.service.PredictionService;
+import com.komori.predictions.service.StatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.CurrentSecurityContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+public class UserController {
+    private final StatisticsService statisticsService;
+    private final PredictionService predictionService;
+
+    @GetMapping("/statistics")
+    public ResponseEntity<UserStatistics> getStatistics(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok().body(statisticsService.getUserStatistics(email));
+    }
+
+    // "page" is only read when no cursor is given; following pagination.nextCursor is cheaper for deep pages
+    @GetMapping("/predictions/history")
+    public ResponseEntity<PredictionHistoryPage> getPredictionHistory(@CurrentSecurityContext(expression = "authentication?.name") String email,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "1") int page,
+                                                                      @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok().body(predictionService.getHistory(email, cursor, page, limit));
+    }
+
+    @GetMapping(value = "/predictions/history/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportPredictionHistory(@CurrentSecurityContext(expression = "authentication?.name") String email) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"predictions.ndjson\"")
+                .body(predictionService.exportHistory(email));
+    }
+}
@@ -0,0 +1,30 @@
+package com.komori.predictions.dto.request;
+
+import com.komori.predictions.entity.Chip;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionRequest {
+    @NotNull
+    private Long matchId;
+    private Integer gameweek; // Informational, the fixture's own gameweek is stored
+    @Min(0)
+    private int homeScore;
+    @Min(0)
+    private int awayScore;
+    private List<String> homeScorers;
+    private List<String> awayScorers;
+    private List<Chip> chips;
+    private String homeTeam;
+    private String awayTeam;
+}
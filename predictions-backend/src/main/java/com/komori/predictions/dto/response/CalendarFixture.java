@@ -0,0 +1,21 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarFixture {
+    private Long matchId;
+    private int gameweek;
+    private String homeTeam;
+    private String awayTeam;
+    private Instant kickoff;
+    private boolean locked;
+}
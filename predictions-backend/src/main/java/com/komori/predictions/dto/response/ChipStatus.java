@@ -0,0 +1,23 @@
+package com.komori.predictions.dto.response;
+
+import com.komori.predictions.entity.Chip;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChipStatus {
+    private Chip chipId;
+    private boolean available;
+    private String reason;
+    private String scope;
+    private int seasonUsageCount;
+    private Integer seasonLimit;
+    private Integer remainingUses;
+    private int remainingGameweeks;
+    private Integer lastUsedGameweek;
+}
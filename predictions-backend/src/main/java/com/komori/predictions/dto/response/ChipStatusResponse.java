@@ -0,0 +1,18 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChipStatusResponse {
+    private List<ChipStatus> chips;
+    private int currentGameweek;
+    private String currentSeason;
+}
@@ -0,0 +1,42 @@
+package com.komori.predictions.dto.response;
+
+import com.komori.predictions.entity.Team;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DashboardResponse {
+    private DashboardUser user;
+    private Season season;
+    private Stats stats;
+    private List<LeagueSummary> leagues;
+    private ChipStatusResponse chips;
+    private List<String> partial; // Sections that missed the deadline or failed; they are null above
+
+    public record DashboardUser(String userId, String username, String firstName, String lastName, String email,
+                                Team favouriteTeam, int points, int rank) {
+    }
+
+    public record Season(int currentGameweek, int totalGameweeks) {
+    }
+
+    public record Stats(WeeklyPoints weeklyPoints, AccuracyRate accuracyRate, GlobalRankStat globalRank) {
+    }
+
+    // difference is against the previous gameweek
+    public record WeeklyPoints(int value, int difference) {
+    }
+
+    public record AccuracyRate(double percentage, int correct, int total) {
+    }
+
+    public record GlobalRankStat(int value, double percentile) {
+    }
+}
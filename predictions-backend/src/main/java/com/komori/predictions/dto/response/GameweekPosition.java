@@ -0,0 +1,16 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GameweekPosition {
+    private int gameweek;
+    private int points;
+    private int rank;
+}
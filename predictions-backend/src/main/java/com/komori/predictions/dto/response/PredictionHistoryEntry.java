@@ -0,0 +1,33 @@
+package com.komori.predictions.dto.response;
+
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.PredictionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionHistoryEntry {
+    private Long id;
+    private Long matchId;
+    private int gameweek;
+    private String homeTeam;
+    private String awayTeam;
+    private Instant kickoff;
+    private int homeScore;
+    private int awayScore;
+    private Integer actualHomeScore; // Null until the result is in
+    private Integer actualAwayScore;
+    private List<String> homeScorers;
+    private List<String> awayScorers;
+    private List<Chip> chips;
+    private Integer points;
+    private PredictionStatus status;
+}
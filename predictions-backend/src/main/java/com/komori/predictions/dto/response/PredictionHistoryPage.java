@@ -0,0 +1,21 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionHistoryPage {
+    private List<PredictionHistoryEntry> predictions;
+    private Pagination pagination;
+
+    // nextCursor is null on the last page
+    public record Pagination(int limit, String nextCursor, boolean hasMore) {
+    }
+}
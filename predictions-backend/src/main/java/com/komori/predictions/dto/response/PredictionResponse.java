@@ -0,0 +1,28 @@
+package com.komori.predictions.dto.response;
+
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.PredictionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionResponse {
+    private Long id;
+    private Long matchId;
+    private int gameweek;
+    private String homeTeam;
+    private String awayTeam;
+    private int homeScore;
+    private int awayScore;
+    private List<String> homeScorers;
+    private List<String> awayScorers;
+    private List<Chip> chips;
+    private PredictionStatus status;
+}
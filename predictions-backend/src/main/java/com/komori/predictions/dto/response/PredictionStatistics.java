@@ -0,0 +1,19 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionStatistics {
+    private int totalPredictions;
+    private int correctPredictions; // Right result, exact scores included
+    private int exactScores;
+    private int points;
+    private int accuracy; // Percent
+    private double averagePoints;
+}
@@ -0,0 +1,21 @@
+package com.komori.predictions.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StandingEntry {
+    @JsonIgnore // Internal id, only used to build keyset cursors
+    private Long memberId;
+    private String userId;
+    private String username;
+    private int points;
+    private int rank;
+    private Integer previousRank;
+}
@@ -0,0 +1,19 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StandingsPage {
+    private String leagueName;
+    private List<StandingEntry> entries;
+    private String nextCursor; // Null when there are no more entries
+    private Integer callerRank; // Only set for "around me" windows
+}
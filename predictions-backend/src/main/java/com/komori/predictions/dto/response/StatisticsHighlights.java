@@ -0,0 +1,26 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsHighlights {
+    private BestGameweek bestGameweek;
+    private FavoriteFixture favoriteFixture;
+    private MostActiveDay mostActiveDay;
+
+    public record BestGameweek(int gameweek, int points) {
+    }
+
+    // The team the user has predicted most
+    public record FavoriteFixture(String fixture, int accuracy) {
+    }
+
+    public record MostActiveDay(String day, int percentage) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamPerformance {
+    private String team;
+    private int predictions;
+    private int correct;
+    private int points;
+    private int accuracy;
+}
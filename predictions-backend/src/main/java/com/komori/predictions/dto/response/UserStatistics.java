@@ -0,0 +1,20 @@
+package com.komori.predictions.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserStatistics {
+    private int totalPoints;
+    private int globalRank;
+    private long totalPlayers;
+    private int predictions;
+    private int accuracy;
+    private Integer bestGameweek;
+    private int bestGameweekPoints;
+}
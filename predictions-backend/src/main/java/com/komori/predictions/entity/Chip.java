@@ -0,0 +1,19 @@
+package com.komori.predictions.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+// Rules match CHIP_CONFIG in the frontend's chipManager.js
+public enum Chip {
+    DOUBLE_DOWN(0, null, true),
+    WILDCARD(7, null, true),
+    SCORER_FOCUS(5, null, true),
+    DEFENSE_PLUS_PLUS(5, null, false),
+    ALL_IN_WEEK(0, 4, false);
+
+    private final int cooldownGameweeks; // Gameweeks the chip stays unavailable after being played
+    private final Integer seasonLimit; // Null means unlimited
+    private final boolean matchScoped; // Played on a single match rather than the whole gameweek
+}
@@ -0,0 +1,32 @@
+package com.komori.predictions.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "chip_usage")
+@IdClass(ChipUsageEntity.ChipUsageId.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChipUsageEntity {
+    @Id
+    private Long userId;
+    @Id
+    private String season;
+    @JdbcTypeCode(SqlTypes.ARRAY) // Gameweek bitmask per Chip ordinal
+    private long[] usage;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChipUsageId implements Serializable {
+        private Long userId;
+        private String season;
+    }
+}
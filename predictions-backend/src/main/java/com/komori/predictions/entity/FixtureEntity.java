@@ -0,0 +1,36 @@
+package com.komori.predictions.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Entity
+@Table(name = "fixture_entity")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FixtureEntity {
+    @Id // The feed's match id, not generated
+    private Long id;
+    private int gameweek;
+    private String homeTeam;
+    private String awayTeam;
+    private Instant kickoff;
+    private Integer homeScore;
+    private Integer awayScore;
+    @JdbcTypeCode(SqlTypes.ARRAY) @Builder.Default
+    private String[] homeScorers = new String[0];
+    @JdbcTypeCode(SqlTypes.ARRAY) @Builder.Default
+    private String[] awayScorers = new String[0];
+    @Enumerated(value = EnumType.STRING)
+    private FixtureStatus status;
+    private boolean locked; // Set at kickoff by KickoffLockScheduler
+    @UpdateTimestamp
+    private Timestamp updatedAt;
+}
@@ -0,0 +1,6 @@
+package com.komori.predictions.entity;
+
+public enum FixtureStatus {
+    SCHEDULED,
+    FINISHED
+}
@@ -20,6 +20,8 @@ public class LeagueEntity {
     private String leagueCode;
     @Enumerated(value = EnumType.STRING)
     private Publicity publicity;
+    @Column(updatable = false) // Only ever changed atomically through LeagueRepository.incrementMemberCount
+    private int memberCount;
     @ManyToMany(cascade = { CascadeType.PERSIST, CascadeType.MERGE })
     @JoinTable(
             name = "user_league_table",
@@ -0,0 +1,39 @@
+package com.komori.predictions.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+@Entity
+@Table(name = "league_standing_snapshot")
+@IdClass(LeagueSnapshotEntity.SnapshotId.class)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// A league table frozen at the end of a gameweek, stored as parallel arrays in table order
+public class LeagueSnapshotEntity {
+    @Id
+    private Long leagueId;
+    @Id
+    private int gameweek;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private long[] userIds;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private int[] points;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    private int[] ranks;
+    private Timestamp capturedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SnapshotId implements Serializable {
+        private Long leagueId;
+        private int gameweek;
+    }
+}
@@ -0,0 +1,25 @@
+package com.komori.predictions.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.sql.Timestamp;
+
+@Entity
+@Table(name = "league_standing")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// Read model for league tables, one row per (league, member)
+public class LeagueStandingEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long leagueId;
+    private Long userId;
+    private int points;
+    private int currentRank;
+    private Integer previousRank;
+    @Column(insertable = false) // Defaults to now() in the database
+    private Timestamp changedAt;
+}
@@ -0,0 +1,37 @@
+package com.komori.predictions.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+@Entity
+@Table(name = "prediction_entity")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionEntity {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long userId;
+    private Long fixtureId;
+    private int gameweek;
+    private Instant kickoff; // Copied from the fixture for keyset-paged history
+    private int homeScore;
+    private int awayScore;
+    @JdbcTypeCode(SqlTypes.ARRAY) @Builder.Default
+    private String[] homeScorers = new String[0];
+    @JdbcTypeCode(SqlTypes.ARRAY) @Builder.Default
+    private String[] awayScorers = new String[0];
+    @JdbcTypeCode(SqlTypes.ARRAY) @Builder.Default // Chip names
+    private String[] chips = new String[0];
+    private Integer points; // Null until the fixture is scored
+    private Short outcome; // 0 wrong, 1 correct result, 2 exact score; null until scored
+    @Enumerated(value = EnumType.STRING)
+    private PredictionStatus status;
+    private Timestamp predictedAt;
+}
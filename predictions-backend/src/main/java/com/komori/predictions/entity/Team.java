@@ -1,10 +1,60 @@
 package com.komori.predictions.entity;
 
+import java.util.Locale;
+
+// Ordinals index the packed per-team statistics (see V13), so only append new teams
 public enum Team {
     ARSENAL,
     CHELSEA,
     LIVERPOOL,
     MANCITY,
     MANUTD,
-    SPURS
+    SPURS,
+    ASTONVILLA,
+    BOURNEMOUTH,
+    BRENTFORD,
+    BRIGHTON,
+    BURNLEY,
+    CRYSTALPALACE,
+    EVERTON,
+    FULHAM,
+    LEEDS,
+    NEWCASTLE,
+    NOTTINGHAMFOREST,
+    SUNDERLAND,
+    WESTHAM,
+    WOLVES;
+
+    // Fixture feeds spell teams several ways ("Man City", "Manchester United", "Tottenham Hotspur").
+    // Returns null for teams outside the enum.
+    public static Team fromFixtureName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String key = name.toUpperCase(Locale.ROOT).replaceAll("[^A-Z]", "");
+        for (Team team : values()) {
+            if (key.startsWith(team.name())) {
+                return team;
+            }
+        }
+        if (key.startsWith("MANCHESTERCITY")) {
+            return MANCITY;
+        }
+        if (key.startsWith("MANUNITED") || key.startsWith("MANCHESTERUNITED") || key.startsWith("MANCHESTERUTD")) {
+            return MANUTD;
+        }
+        if (key.startsWith("TOTTENHAM")) {
+            return SPURS;
+        }
+        if (key.startsWith("AFCBOURNEMOUTH")) {
+            return BOURNEMOUTH;
+        }
+        if (key.startsWith("NOTTINGHAM") || key.startsWith("NOTTMFOREST")) {
+            return NOTTINGHAMFOREST;
+        }
+        if (key.startsWith("WOLVERHAMPTON")) {
+            return WOLVES;
+        }
+        return null;
+    }
 }
@@ -29,6 +29,8 @@ public class UserEntity {
     private Boolean accountVerified;
     @Builder.Default
     private int totalPoints = 0;
+    @Builder.Default
+    private int tokenVersion = 0;
     @Enumerated(value = EnumType.STRING)
     private Team favouriteTeam;
     @ManyToMany(mappedBy = "users")
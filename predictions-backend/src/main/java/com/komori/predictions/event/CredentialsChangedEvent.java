@@ -0,0 +1,5 @@
+package com.komori.predictions.event;
+
+// Published when a user's password changes, so tokens issued under the old token version stop being accepted
+public record CredentialsChangedEvent(Long userId) {
+}
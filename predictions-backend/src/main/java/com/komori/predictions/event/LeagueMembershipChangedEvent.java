@@ -0,0 +1,5 @@
+package com.komori.predictions.event;
+
+// Published when a user creates or joins a league
+public record LeagueMembershipChangedEvent(String leagueUuid, String email) {
+}
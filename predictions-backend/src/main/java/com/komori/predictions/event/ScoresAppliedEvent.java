@@ -0,0 +1,8 @@
+package com.komori.predictions.event;
+
+import java.util.Collection;
+import java.util.Map;
+
+// Published once per scored fixture with the new totalPoints of every user whose total moved
+public record ScoresAppliedEvent(Long fixtureId, Map<Long, Integer> totalPointsByUser, Collection<Long> leagueIds) {
+}
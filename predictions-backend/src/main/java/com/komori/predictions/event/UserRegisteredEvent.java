@@ -0,0 +1,5 @@
+package com.komori.predictions.event;
+
+// Published when a user row is created, by sign-up or first OAuth login
+public record UserRegisteredEvent(Long userId) {
+}
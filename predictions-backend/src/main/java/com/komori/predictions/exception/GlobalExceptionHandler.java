@@ -1,6 +1,7 @@
 package com.komori.predictions.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mail.MailException;
@@ -81,6 +82,39 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, "League already joined");
     }
 
+    @ExceptionHandler(NotLeagueMemberException.class)
+    public ResponseEntity<?> handleNotLeagueMember() {
+        return buildResponse(HttpStatus.NOT_FOUND, "User is not a member of this league");
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<?> handleInvalidCursor() {
+        return buildResponse(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+
+    @ExceptionHandler(FixtureNotFoundException.class)
+    public ResponseEntity<?> handleFixtureNotFound() {
+        return buildResponse(HttpStatus.NOT_FOUND, "Fixture not found");
+    }
+
+    @ExceptionHandler(PredictionDeadlinePassedException.class)
+    public ResponseEntity<?> handlePredictionDeadlinePassed() {
+        return buildResponse(HttpStatus.CONFLICT, "Prediction deadline has passed");
+    }
+
+    @ExceptionHandler(ChipUnavailableException.class)
+    public ResponseEntity<?> handleChipUnavailable() {
+        return buildResponse(HttpStatus.BAD_REQUEST, "Chip is not available");
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> handleTooManyRequests(TooManyRequestsException e) {
+        ResponseEntity<?> response = buildResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many requests, try again shortly");
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, e.getRetryAfter().toSeconds())))
+                .body(response.getBody());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handleGeneralException(Exception e) {
         log.error("Unexpected error occurred: {}", e.getMessage());
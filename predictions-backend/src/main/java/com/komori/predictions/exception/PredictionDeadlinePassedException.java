@@ -0,0 +1,4 @@
+package com.komori.predictions.exception;
+
+public class PredictionDeadlinePassedException extends RuntimeException {
+}
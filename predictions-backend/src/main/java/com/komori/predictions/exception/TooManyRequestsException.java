@@ -0,0 +1,13 @@
+package com.komori.predictions.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+// Load shedding; the handler turns retryAfter into a Retry-After header
+@Getter
+@RequiredArgsConstructor
+public class TooManyRequestsException extends RuntimeException {
+    private final Duration retryAfter;
+}
@@ -0,0 +1,49 @@
+package com.komori.predictions.repository;
+
+import com.komori.predictions.entity.ChipUsageEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ChipUsageRepository extends JpaRepository<ChipUsageEntity, ChipUsageEntity.ChipUsageId> {
+    Optional<ChipUsageEntity> findByUserIdAndSeason(Long userId, String season);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ChipUsageEntity c WHERE c.userId = :userId AND c.season = :season")
+    Optional<ChipUsageEntity> findForUpdate(@Param("userId") Long userId, @Param("season") String season);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO chip_usage (user_id, season, usage)
+            VALUES (:userId, :season, array_fill(CAST(0 AS BIGINT), ARRAY[:chipCount]))
+            ON CONFLICT (user_id, season) DO NOTHING
+            """, nativeQuery = true)
+    int createIfAbsent(@Param("userId") Long userId, @Param("season") String season, @Param("chipCount") int chipCount);
+
+    // index is 1-based (Chip ordinal + 1), bit is the gameweek's bit
+    @Modifying
+    @Query(value = """
+            UPDATE chip_usage
+            SET usage[:index] = COALESCE(usage[:index], 0) | :bit
+            WHERE user_id = :userId AND season = :season
+            """, nativeQuery = true)
+    int markUsed(@Param("userId") Long userId, @Param("season") String season,
+                 @Param("index") int index, @Param("bit") long bit);
+
+    // Whether the chip is already on another of the user's predictions in that gameweek
+    @Query(value = """
+            SELECT EXISTS (SELECT 1
+                           FROM prediction_entity
+                           WHERE user_id = :userId AND gameweek = :gameweek AND fixture_id <> :fixtureId
+                             AND :chip = ANY (chips))
+            """, nativeQuery = true)
+    boolean isPlayedElsewhere(@Param("userId") Long userId, @Param("gameweek") int gameweek,
+                              @Param("fixtureId") Long fixtureId, @Param("chip") String chip);
+}
@@ -0,0 +1,70 @@
+package com.komori.predictions.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+// JDBC access for feed ingestion, which writes up to a season of fixtures at once
+public class FixtureJdbcRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // Rows are already merged with the stored values, so every column is written as given.
+    // Predictions follow their fixture's kickoff and gameweek in the same statement.
+    // A locked fixture moved to a future kickoff before being played is unlocked, so predictions reopen.
+    private static final String UPSERT_FIXTURES = """
+            WITH upserted AS (
+                INSERT INTO fixture_entity (id, gameweek, home_team, away_team, kickoff, home_score, away_score,
+                                            home_scorers, away_scorers, status, updated_at)
+                SELECT r.id, r.gameweek, r.home_team, r.away_team, r.kickoff, r.home_score, r.away_score,
+                       COALESCE(r.home_scorers, '{}'), COALESCE(r.away_scorers, '{}'), r.status, LOCALTIMESTAMP
+                FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(id BIGINT, gameweek INTEGER, home_team TEXT,
+                                                                   away_team TEXT, kickoff TIMESTAMPTZ,
+                                                                   home_score INTEGER, away_score INTEGER,
+                                                                   home_scorers TEXT[], away_scorers TEXT[], status TEXT)
+                ON CONFLICT (id) DO UPDATE
+                    SET gameweek = EXCLUDED.gameweek,
+                        home_team = EXCLUDED.home_team,
+                        away_team = EXCLUDED.away_team,
+                        kickoff = EXCLUDED.kickoff,
+                        home_score = EXCLUDED.home_score,
+                        away_score = EXCLUDED.away_score,
+                        home_scorers = EXCLUDED.home_scorers,
+                        away_scorers = EXCLUDED.away_scorers,
+                        status = EXCLUDED.status,
+                        locked = fixture_entity.locked
+                            AND NOT (EXCLUDED.kickoff > now() AND EXCLUDED.status = 'SCHEDULED'),
+                        updated_at = EXCLUDED.updated_at
+                RETURNING id, gameweek, kickoff
+            ),
+            moved AS (
+                UPDATE prediction_entity p
+                SET kickoff = u.kickoff, gameweek = u.gameweek
+                FROM upserted u
+                WHERE p.fixture_id = u.id AND (p.kickoff <> u.kickoff OR p.gameweek <> u.gameweek)
+            )
+            SELECT count(*) FROM upserted
+            """;
+
+    // Rows use the column names as keys; returns the number of fixtures written
+    public int upsertAll(List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize fixtures", e);
+        }
+        Integer written = jdbcTemplate.queryForObject(UPSERT_FIXTURES, Map.of("rows", payload), Integer.class);
+        return (written != null) ? written : 0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.komori.predictions.repository;
+
+import com.komori.predictions.entity.FixtureEntity;
+import com.komori.predictions.entity.FixtureStatus;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FixtureRepository extends JpaRepository<FixtureEntity, Long> {
+    boolean existsByGameweekAndStatusNot(int gameweek, FixtureStatus status);
+    List<FixtureEntity> findByLockedFalse();
+
+    // Results whose scoring never completed, e.g. because it failed after the result was written
+    @Query(value = """
+            SELECT f.*
+            FROM fixture_entity f
+            WHERE f.status = 'FINISHED'
+              AND EXISTS (SELECT 1 FROM prediction_entity p WHERE p.fixture_id = f.id AND p.status = 'PENDING')
+            """, nativeQuery = true)
+    List<FixtureEntity> findFinishedWithPendingPredictions();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE FixtureEntity f SET f.locked = true WHERE f.id = :id")
+    int lockFixture(@Param("id") Long id);
+}
@@ -1,14 +1,41 @@
 package com.komori.predictions.repository;
 
+import com.komori.predictions.dto.response.LeagueSummary;
 import com.komori.predictions.entity.LeagueEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LeagueRepository extends JpaRepository<LeagueEntity, Long> {
     Optional<LeagueEntity> findByUUID(String uuid);
-    boolean existsByLeagueCode(String code);
     Optional<LeagueEntity> findByLeagueCode(String code);
+
+    @Query("SELECT l.UUID FROM LeagueEntity l WHERE l.id IN :ids")
+    List<String> findUuidsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = "SELECT nextval('league_code_seq')", nativeQuery = true)
+    long nextLeagueCodeValue();
+
+    @Query("""
+            SELECT new com.komori.predictions.dto.response.LeagueSummary(l.UUID, l.name, l.publicity, l.memberCount)
+            FROM LeagueEntity l JOIN l.users u
+            WHERE u.email = :email
+            """)
+    List<LeagueSummary> findSummariesByMemberEmail(@Param("email") String email);
+
+    // Returns 0 when the user is already a member
+    @Modifying
+    @Query(value = "INSERT INTO user_league_table (league_id, user_id) VALUES (:leagueId, :userId) ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertMembership(@Param("leagueId") Long leagueId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE league_entity SET member_count = member_count + :delta WHERE id = :leagueId", nativeQuery = true)
+    int incrementMemberCount(@Param("leagueId") Long leagueId, @Param("delta") int delta);
 }
@@ -0,0 +1,47 @@
+package com.komori.predictions.repository;
+
+import com.komori.predictions.entity.LeagueSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeagueSnapshotRepository extends JpaRepository<LeagueSnapshotEntity, LeagueSnapshotEntity.SnapshotId> {
+    // Only the user's own points and rank leave the database, however large the league
+    @Query(value = """
+            SELECT s.gameweek AS gameweek, s.points[p.pos] AS points, s.ranks[p.pos] AS rank
+            FROM league_standing_snapshot s
+                     CROSS JOIN LATERAL (SELECT array_position(s.user_ids, CAST(:userId AS BIGINT)) AS pos) p
+            WHERE s.league_id = :leagueId AND p.pos IS NOT NULL
+            ORDER BY s.gameweek
+            """, nativeQuery = true)
+    List<SnapshotPositionView> findPositions(@Param("leagueId") Long leagueId, @Param("userId") Long userId);
+
+    // Freezes every league's current table in a single statement, once per gameweek. Claiming the gameweek row
+    // first means a re-scored fixture or a late result in a finished gameweek never rewrites its history;
+    // a concurrent capture waits on the claim and then inserts nothing.
+    @Modifying
+    @Query(value = """
+            WITH claimed AS (
+                INSERT INTO captured_gameweek (gameweek) VALUES (:gameweek)
+                ON CONFLICT (gameweek) DO NOTHING
+                RETURNING gameweek
+            )
+            INSERT INTO league_standing_snapshot (league_id, gameweek, user_ids, points, ranks, captured_at)
+            SELECT s.league_id,
+                   c.gameweek,
+                   array_agg(s.user_id ORDER BY s.points DESC, s.user_id),
+                   array_agg(s.points ORDER BY s.points DESC, s.user_id),
+                   array_agg(s.current_rank ORDER BY s.points DESC, s.user_id),
+                   now()
+            FROM league_standing s
+                     CROSS JOIN claimed c
+            GROUP BY s.league_id, c.gameweek
+            ON CONFLICT (league_id, gameweek) DO NOTHING
+            """, nativeQuery = true)
+    int captureAll(@Param("gameweek") int gameweek);
+}
@@ -0,0 +1,116 @@
+package com.komori.predictions.repository;
+
+import com.komori.predictions.dto.response.StandingEntry;
+import com.komori.predictions.entity.LeagueStandingEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+@Repository
+public interface LeagueStandingRepository extends JpaRepository<LeagueStandingEntity, Long> {
+    @Query("""
+            SELECT new com.komori.predictions.dto.response.StandingEntry(
+                s.userId, u.userID, COALESCE(u.username, u.firstName), s.points, s.currentRank, s.previousRank)
+            FROM LeagueStandingEntity s JOIN UserEntity u ON u.id = s.userId
+            WHERE s.leagueId = :leagueId
+            ORDER BY s.points DESC, s.userId
+            """)
+    List<StandingEntry> findStandings(@Param("leagueId") Long leagueId);
+
+    // Keyset pages in table order (points desc, user id asc), all served by idx_league_standing_order
+    @Query("""
+            SELECT new com.komori.predictions.dto.response.StandingEntry(
+                s.userId, u.userID, COALESCE(u.username, u.firstName), s.points, s.currentRank, s.previousRank)
+            FROM LeagueStandingEntity s JOIN UserEntity u ON u.id = s.userId
+            WHERE s.leagueId = :leagueId
+            ORDER BY s.points DESC, s.userId
+            """)
+    List<StandingEntry> findFirstPage(@Param("leagueId") Long leagueId, Limit limit);
+
+    @Query("""
+            SELECT new com.komori.predictions.dto.response.StandingEntry(
+                s.userId, u.userID, COALESCE(u.username, u.firstName), s.points, s.currentRank, s.previousRank)
+            FROM LeagueStandingEntity s JOIN UserEntity u ON u.id = s.userId
+            WHERE s.leagueId = :leagueId
+              AND (s.points < :points OR (s.points = :points AND s.userId > :userId))
+            ORDER BY s.points DESC, s.userId
+            """)
+    List<StandingEntry> findPageAfter(@Param("leagueId") Long leagueId, @Param("points") int points,
+                                      @Param("userId") Long userId, Limit limit);
+
+    // Walks upwards from a position, so results come back in reverse table order
+    @Query("""
+            SELECT new com.komori.predictions.dto.response.StandingEntry(
+                s.userId, u.userID, COALESCE(u.username, u.firstName), s.points, s.currentRank, s.previousRank)
+            FROM LeagueStandingEntity s JOIN UserEntity u ON u.id = s.userId
+            WHERE s.leagueId = :leagueId
+              AND (s.points > :points OR (s.points = :points AND s.userId < :userId))
+            ORDER BY s.points ASC, s.userId DESC
+            """)
+    List<StandingEntry> findPageBefore(@Param("leagueId") Long leagueId, @Param("points") int points,
+                                       @Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT new com.komori.predictions.dto.response.StandingEntry(
+                s.userId, u.userID, COALESCE(u.username, u.firstName), s.points, s.currentRank, s.previousRank)
+            FROM LeagueStandingEntity s JOIN UserEntity u ON u.id = s.userId
+            WHERE s.leagueId = :leagueId AND s.userId = :userId
+            """)
+    Optional<StandingEntry> findEntry(@Param("leagueId") Long leagueId, @Param("userId") Long userId);
+
+    // Rows written by transactions at or after the watermark, whether or not a previous poll already saw them
+    @Query(value = """
+            SELECT s.user_id AS "memberId", u.userid AS "userId", COALESCE(u.username, u.first_name) AS "username",
+                   s.points AS "points", s.current_rank AS "rank", s.previous_rank AS "previousRank"
+            FROM league_standing s JOIN user_entity u ON u.id = s.user_id
+            WHERE s.league_id = :leagueId AND s.change_xid >= :watermark
+            """, nativeQuery = true)
+    List<StandingChangeView> findChangedSince(@Param("leagueId") Long leagueId, @Param("watermark") long watermark);
+
+    // Oldest transaction still in flight; everything below it has committed or aborted
+    @Query(value = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint", nativeQuery = true)
+    long currentChangeWatermark();
+
+    // Inserts a new member at the rank their points earn them: 1 + number of members strictly ahead
+    @Modifying
+    @Query(value = """
+            INSERT INTO league_standing (league_id, user_id, points, current_rank)
+            SELECT :leagueId, :userId, :points, COUNT(*) + 1
+            FROM league_standing
+            WHERE league_id = :leagueId AND points > :points
+            ON CONFLICT (league_id, user_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertMember(@Param("leagueId") Long leagueId, @Param("userId") Long userId, @Param("points") int points);
+
+    // Serialises joins to one league until the transaction ends, so each newcomer's COUNT sees the one before
+    @Query(value = "SELECT CAST(pg_advisory_xact_lock(:leagueId) AS text)", nativeQuery = true)
+    String lockLeague(@Param("leagueId") Long leagueId);
+
+    // Recomputes ranks for the given leagues, keeping the old rank as previous_rank for rows that moved.
+    // The ids go in as one array literal: a big gameweek touches more leagues than Postgres allows bind parameters.
+    default int rerank(Collection<Long> leagueIds) {
+        StringJoiner array = new StringJoiner(",", "{", "}");
+        leagueIds.forEach(id -> array.add(id.toString()));
+        return rerankAll(array.toString());
+    }
+
+    @Modifying
+    @Query(value = """
+            UPDATE league_standing s
+            SET previous_rank = s.current_rank, current_rank = r.new_rank, changed_at = now(),
+                change_xid = pg_current_xact_id()::text::bigint
+            FROM (SELECT id, RANK() OVER (PARTITION BY league_id ORDER BY points DESC) AS new_rank
+                  FROM league_standing
+                  WHERE league_id = ANY (CAST(:leagueIds AS BIGINT[]))) r
+            WHERE s.id = r.id AND s.current_rank <> r.new_rank
+            """, nativeQuery = true)
+    int rerankAll(@Param("leagueIds") String leagueIds);
+}
@@ -0,0 +1,142 @@
+package com.komori.predictions.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.komori.predictions.dto.response.PredictionHistoryEntry;
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.PredictionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+// JDBC access for the prediction hot paths, where a statement per entity would not keep up
+public class PredictionJdbcRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    // The whole batch travels as one jsonb parameter and is upserted in a single statement.
+    // Rows for locked fixtures are dropped here too, closing the gap between the in-memory check and the write.
+    // Scored predictions are never overwritten.
+    private static final String UPSERT_PREDICTIONS = """
+            INSERT INTO prediction_entity (user_id, fixture_id, gameweek, kickoff, home_score, away_score,
+                                           home_scorers, away_scorers, chips, status, predicted_at)
+            SELECT :userId, r.fixture_id, r.gameweek, f.kickoff, r.home_score, r.away_score,
+                   COALESCE(r.home_scorers, '{}'), COALESCE(r.away_scorers, '{}'), COALESCE(r.chips, '{}'),
+                   'PENDING', LOCALTIMESTAMP
+            FROM jsonb_to_recordset(CAST(:rows AS jsonb)) AS r(fixture_id BIGINT, gameweek INTEGER,
+                                                               home_score INTEGER, away_score INTEGER,
+                                                               home_scorers TEXT[], away_scorers TEXT[], chips TEXT[])
+                     JOIN fixture_entity f ON f.id = r.fixture_id AND NOT f.locked
+            ON CONFLICT (user_id, fixture_id) DO UPDATE
+                SET home_score = EXCLUDED.home_score,
+                    away_score = EXCLUDED.away_score,
+                    home_scorers = EXCLUDED.home_scorers,
+                    away_scorers = EXCLUDED.away_scorers,
+                    chips = EXCLUDED.chips,
+                    kickoff = EXCLUDED.kickoff,
+                    predicted_at = EXCLUDED.predicted_at
+                WHERE prediction_entity.status = 'PENDING'
+            RETURNING fixture_id, id
+            """;
+
+    private static final String HISTORY_COLUMNS = """
+            SELECT p.id, p.fixture_id, p.gameweek, f.home_team, f.away_team, p.kickoff,
+                   p.home_score, p.away_score, f.home_score AS actual_home_score, f.away_score AS actual_away_score,
+                   p.home_scorers, p.away_scorers, p.chips, p.points, p.status
+            FROM prediction_entity p
+                     JOIN fixture_entity f ON f.id = p.fixture_id
+            """;
+
+    // Newest first; both pages walk idx_prediction_entity_user_kickoff.
+    // The offset is only non-zero for clients still paging by number, which a season's history keeps small.
+    private static final String HISTORY_FIRST_PAGE = HISTORY_COLUMNS + """
+            WHERE p.user_id = :userId
+            ORDER BY p.kickoff DESC, p.id DESC
+            LIMIT :limit OFFSET :offset
+            """;
+
+    private static final String HISTORY_PAGE_AFTER = HISTORY_COLUMNS + """
+            WHERE p.user_id = :userId AND (p.kickoff, p.id) < (:kickoff, :id)
+            ORDER BY p.kickoff DESC, p.id DESC
+            LIMIT :limit
+            """;
+
+    private static final String HISTORY_EXPORT = HISTORY_COLUMNS + """
+            WHERE p.user_id = ?
+            ORDER BY p.kickoff DESC, p.id DESC
+            """;
+
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    // Rows use the column names as keys; returns fixture id -> prediction id for every row written
+    public Map<Long, Long> upsertAll(Long userId, List<Map<String, Object>> rows) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize predictions", e);
+        }
+
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query(UPSERT_PREDICTIONS, Map.of("userId", userId, "rows", payload),
+                rs -> { ids.put(rs.getLong("fixture_id"), rs.getLong("id")); });
+        return ids;
+    }
+
+    public List<PredictionHistoryEntry> findHistoryFirstPage(Long userId, int offset, int limit) {
+        return jdbcTemplate.query(HISTORY_FIRST_PAGE, Map.of("userId", userId, "offset", offset, "limit", limit),
+                PredictionJdbcRepository::toHistoryEntry);
+    }
+
+    public List<PredictionHistoryEntry> findHistoryPageAfter(Long userId, Instant kickoff, Long id, int limit) {
+        Map<String, Object> params = Map.of("userId", userId, "kickoff", OffsetDateTime.ofInstant(kickoff, ZoneOffset.UTC),
+                "id", id, "limit", limit);
+        return jdbcTemplate.query(HISTORY_PAGE_AFTER, params, PredictionJdbcRepository::toHistoryEntry);
+    }
+
+    // Forward-only cursor with a fetch size, so the driver holds one batch at a time instead of the whole history.
+    // Postgres only honours the fetch size inside a transaction, which the caller must provide.
+    public void streamHistory(Long userId, Consumer<PredictionHistoryEntry> consumer) {
+        jdbcTemplate.getJdbcOperations().query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(HISTORY_EXPORT,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            statement.setLong(1, userId);
+            return statement;
+        }, rs -> { consumer.accept(toHistoryEntry(rs, rs.getRow())); });
+    }
+
+    private static PredictionHistoryEntry toHistoryEntry(ResultSet rs, int rowNum) throws SQLException {
+        return PredictionHistoryEntry.builder()
+                .id(rs.getLong("id"))
+                .matchId(rs.getLong("fixture_id"))
+                .gameweek(rs.getInt("gameweek"))
+                .homeTeam(rs.getString("home_team"))
+                .awayTeam(rs.getString("away_team"))
+                .kickoff(rs.getObject("kickoff", OffsetDateTime.class).toInstant())
+                .homeScore(rs.getInt("home_score"))
+                .awayScore(rs.getInt("away_score"))
+                .actualHomeScore(rs.getObject("actual_home_score", Integer.class))
+                .actualAwayScore(rs.getObject("actual_away_score", Integer.class))
+                .homeScorers(Arrays.asList((String[]) rs.getArray("home_scorers").getArray()))
+                .awayScorers(Arrays.asList((String[]) rs.getArray("away_scorers").getArray()))
+                .chips(Arrays.stream((String[]) rs.getArray("chips").getArray()).map(Chip::valueOf).toList())
+                .points(rs.getObject("points", Integer.class))
+                .status(PredictionStatus.valueOf(rs.getString("status")))
+                .build();
+    }
+}
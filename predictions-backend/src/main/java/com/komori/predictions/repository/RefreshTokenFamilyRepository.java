@@ -0,0 +1,86 @@
+package com.komori.predictions.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+// One row per refresh token family. Rotation is a conditional write on the row, so all instances agree on
+// which generation is current; RefreshTokenService keeps the revoked families in memory in front of it.
+public class RefreshTokenFamilyRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Succeeds for exactly one caller per generation. A family is recorded on its first refresh, the token fresh
+    // from login being its first generation; after that the row lock serialises concurrent refreshes, and the loser
+    // re-checks current_jti after the winner commits.
+    public boolean rotate(UUID familyId, Long userId, UUID presentedJti, UUID nextJti, Instant expiresAt) {
+        return jdbcTemplate.update("""
+                        INSERT INTO refresh_token_family (family_id, user_id, current_jti, previous_jti, rotated_at, expires_at)
+                        VALUES (:familyId, :userId, :nextJti, :presentedJti, now(), :expiresAt)
+                        ON CONFLICT (family_id) DO UPDATE
+                            SET previous_jti = refresh_token_family.current_jti,
+                                current_jti = EXCLUDED.current_jti,
+                                rotated_at = EXCLUDED.rotated_at,
+                                expires_at = EXCLUDED.expires_at
+                            WHERE refresh_token_family.current_jti = :presentedJti AND refresh_token_family.revoked_at IS NULL
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("familyId", familyId)
+                        .addValue("userId", userId)
+                        .addValue("presentedJti", presentedJti)
+                        .addValue("nextJti", nextJti)
+                        .addValue("expiresAt", Timestamp.from(expiresAt))) == 1;
+    }
+
+    // The current generation, if the presented one was rotated away within the grace window and the family is live
+    public Optional<UUID> findSuccessorWithinGrace(UUID familyId, UUID presentedJti, Duration grace) {
+        List<UUID> successors = jdbcTemplate.query("""
+                        SELECT current_jti
+                        FROM refresh_token_family
+                        WHERE family_id = :familyId AND previous_jti = :presentedJti AND revoked_at IS NULL
+                          AND rotated_at > now() - :graceMillis * INTERVAL '1 millisecond'
+                        """,
+                Map.of("familyId", familyId, "presentedJti", presentedJti, "graceMillis", grace.toMillis()),
+                (rs, rowNum) -> rs.getObject("current_jti", UUID.class));
+        return successors.stream().findFirst();
+    }
+
+    // Keeps the first revocation time, so a replay arriving after the revocation isn't synced again
+    public void revoke(UUID familyId, Long userId, Instant expiresAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO refresh_token_family (family_id, user_id, current_jti, revoked_at, expires_at)
+                        VALUES (:familyId, :userId, gen_random_uuid(), now(), :expiresAt)
+                        ON CONFLICT (family_id) DO UPDATE SET revoked_at = COALESCE(refresh_token_family.revoked_at, now())
+                        """,
+                new MapSqlParameterSource()
+                        .addValue("familyId", familyId)
+                        .addValue("userId", userId)
+                        .addValue("expiresAt", Timestamp.from(expiresAt)));
+    }
+
+    // Unexpired revoked families recorded at or after "since"; Instant.EPOCH loads them all
+    public List<RevokedFamily> findRevokedSince(Instant since) {
+        return jdbcTemplate.query("""
+                        SELECT family_id, expires_at
+                        FROM refresh_token_family
+                        WHERE revoked_at >= :since AND expires_at > now()
+                        """, Map.of("since", Timestamp.from(since)),
+                (rs, rowNum) -> new RevokedFamily(rs.getObject("family_id", UUID.class), rs.getTimestamp("expires_at").toInstant()));
+    }
+
+    public int deleteExpired() {
+        return jdbcTemplate.update("DELETE FROM refresh_token_family WHERE expires_at <= now()", Map.of());
+    }
+
+    public record RevokedFamily(UUID familyId, Instant expiresAt) {}
+}
@@ -0,0 +1,189 @@
+package com.komori.predictions.repository;
+
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.Team;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+// Plain JDBC on purpose: one statement scores every prediction for a fixture and carries the point deltas
+// through to user_entity and league_standing, instead of loading and saving each prediction as an entity
+public class ScoringRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // Mirrors the frontend's pointsCalculation.js: 10 exact score, 5 correct outcome, 2 per correct scorer,
+    // then WILDCARD x3 / DOUBLE_DOWN x2 / SCORER_FOCUS doubles scorer points, DEFENSE_PLUS_PLUS +10 on a clean sheet.
+    // ALL_IN_WEEK doubles the whole gameweek (chipUtils.js), read from the user's chip_usage bit for the gameweek;
+    // gameweek chips close at the gameweek's first kickoff, so the bit is settled before any of its fixtures is scored.
+    // A scorer named twice in a prediction only counts once.
+    // Deltas are taken against the previous points and outcome so a corrected result can be re-scored safely;
+    // the same deltas feed the statistics rollups, so statistics endpoints never aggregate over predictions.
+    // Each user has at most one prediction per fixture, so every rollup row below is written at most once.
+    // Team counters live in user_statistics.team_stats, four slots (predictions, correct, exact, points) per Team
+    // ordinal; a fixture only ever touches its two teams' slots, which are passed in as :homeTeam and :awayTeam.
+    private static final String SCORE_FIXTURE = """
+            WITH base AS (
+                SELECT p.id,
+                       p.user_id,
+                       p.points AS old_points,
+                       p.outcome AS old_outcome,
+                       p.chips,
+                       p.gameweek,
+                       date_trunc('month', f.kickoff AT TIME ZONE 'UTC')::date AS month,
+                       f.home_team,
+                       f.away_team,
+                       EXTRACT(ISODOW FROM p.predicted_at)::int AS weekday,
+                       COALESCE((cu.usage[:allInWeekIndex] >> p.gameweek) & 1, 0) = 1 AS all_in_week,
+                       CASE
+                           WHEN p.home_score = f.home_score AND p.away_score = f.away_score THEN 2
+                           WHEN sign(p.home_score - p.away_score) = sign(f.home_score - f.away_score) THEN 1
+                           ELSE 0
+                       END AS outcome,
+                       2 * ((SELECT count(DISTINCT s.name) FROM unnest(p.home_scorers) AS s(name) WHERE s.name = ANY (f.home_scorers))
+                          + (SELECT count(DISTINCT s.name) FROM unnest(p.away_scorers) AS s(name) WHERE s.name = ANY (f.away_scorers))) AS scorer_points,
+                       (p.away_score = 0 AND f.away_score = 0) OR (p.home_score = 0 AND f.home_score = 0) AS clean_sheet
+                FROM prediction_entity p
+                         JOIN fixture_entity f ON f.id = p.fixture_id
+                         LEFT JOIN chip_usage cu ON cu.user_id = p.user_id AND cu.season = :season
+                WHERE p.fixture_id = :fixtureId
+            ),
+            scored AS (
+                SELECT b.*,
+                       (GREATEST(0,
+                           CASE
+                               WHEN 'WILDCARD' = ANY (chips) THEN (sp.score_points + scorer_points) * 3
+                               WHEN 'DOUBLE_DOWN' = ANY (chips) THEN (sp.score_points + scorer_points) * 2
+                               WHEN 'SCORER_FOCUS' = ANY (chips) THEN sp.score_points + scorer_points * 2
+                               ELSE sp.score_points + scorer_points
+                           END
+                           + CASE WHEN 'DEFENSE_PLUS_PLUS' = ANY (chips) AND clean_sheet THEN 10 ELSE 0 END)
+                           * CASE WHEN all_in_week THEN 2 ELSE 1 END)::int AS points
+                FROM base b
+                         CROSS JOIN LATERAL (SELECT CASE b.outcome WHEN 2 THEN 10 WHEN 1 THEN 5 ELSE 0 END AS score_points) sp
+            ),
+            updated AS (
+                UPDATE prediction_entity p
+                SET points = s.points, outcome = s.outcome, status = 'SCORED'
+                FROM scored s
+                WHERE p.id = s.id
+                RETURNING s.user_id, s.points - COALESCE(s.old_points, 0) AS delta, s.old_outcome, s.outcome,
+                          s.gameweek, s.month, s.home_team, s.away_team, s.weekday
+            ),
+            user_delta AS (
+                SELECT user_id, SUM(delta) AS delta
+                FROM updated
+                GROUP BY user_id
+                HAVING SUM(delta) <> 0
+            ),
+            users AS (
+                UPDATE user_entity u
+                SET total_points = u.total_points + d.delta
+                FROM user_delta d
+                WHERE u.id = d.user_id
+                RETURNING u.id, u.total_points
+            ),
+            standings AS (
+                UPDATE league_standing ls
+                SET points = users.total_points, changed_at = now(), change_xid = pg_current_xact_id()::text::bigint
+                FROM users
+                WHERE ls.user_id = users.id
+                RETURNING ls.league_id
+            ),
+            stat_delta AS (
+                SELECT *
+                FROM (SELECT user_id, gameweek, month, home_team, away_team, weekday,
+                             (old_outcome IS NULL)::int AS predictions,
+                             (outcome >= 1)::int - COALESCE((old_outcome >= 1)::int, 0) AS correct,
+                             (outcome = 2)::int - COALESCE((old_outcome = 2)::int, 0) AS exact,
+                             delta AS points
+                      FROM updated) d
+                WHERE predictions <> 0 OR correct <> 0 OR exact <> 0 OR points <> 0
+            ),
+            month_stats AS (
+                INSERT INTO user_month_statistics AS t (user_id, month, predictions, correct, exact, points)
+                SELECT user_id, month, predictions, correct, exact, points FROM stat_delta
+                ON CONFLICT (user_id, month) DO UPDATE
+                    SET predictions = t.predictions + EXCLUDED.predictions, correct = t.correct + EXCLUDED.correct,
+                        exact = t.exact + EXCLUDED.exact, points = t.points + EXCLUDED.points
+            ),
+            gameweek_stats AS (
+                INSERT INTO user_gameweek_statistics AS t (user_id, gameweek, predictions, correct, exact, points)
+                SELECT user_id, gameweek, predictions, correct, exact, points FROM stat_delta
+                ON CONFLICT (user_id, gameweek) DO UPDATE
+                    SET predictions = t.predictions + EXCLUDED.predictions, correct = t.correct + EXCLUDED.correct,
+                        exact = t.exact + EXCLUDED.exact, points = t.points + EXCLUDED.points
+                RETURNING t.user_id, t.gameweek, t.points
+            ),
+            -- The best gameweek only moves when another gameweek overtakes it or its own total changes,
+            -- so a corrected result that lowers the best gameweek can leave a runner-up unpromoted
+            user_stats AS (
+                INSERT INTO user_statistics AS t (user_id, predictions, correct, exact, points, weekday_predictions,
+                                                  best_gameweek, best_gameweek_points, team_stats)
+                SELECT d.user_id, d.predictions, d.correct, d.exact, d.points,
+                       ARRAY(SELECT COALESCE(d.predictions = 1 AND day = d.weekday, false)::int FROM generate_series(1, 7) AS day),
+                       g.gameweek, g.points,
+                       ARRAY(SELECT CASE
+                                        WHEN i / 4 IN (:homeTeam, :awayTeam)
+                                            THEN (ARRAY[d.predictions, d.correct, d.exact, d.points])[i % 4 + 1]
+                                        ELSE 0
+                                    END
+                             FROM generate_series(0, :teamSlots - 1) AS i)
+                FROM stat_delta d
+                         JOIN gameweek_stats g ON g.user_id = d.user_id
+                ON CONFLICT (user_id) DO UPDATE
+                    SET predictions = t.predictions + EXCLUDED.predictions, correct = t.correct + EXCLUDED.correct,
+                        exact = t.exact + EXCLUDED.exact, points = t.points + EXCLUDED.points,
+                        weekday_predictions = ARRAY(SELECT a + b
+                                                    FROM unnest(t.weekday_predictions, EXCLUDED.weekday_predictions)
+                                                             WITH ORDINALITY AS w(a, b, i)
+                                                    ORDER BY i),
+                        team_stats = ARRAY(SELECT COALESCE(a, 0) + COALESCE(b, 0)
+                                           FROM unnest(t.team_stats, EXCLUDED.team_stats) WITH ORDINALITY AS w(a, b, i)
+                                           ORDER BY i),
+                        best_gameweek = CASE
+                                            WHEN t.best_gameweek IS NULL OR t.best_gameweek = EXCLUDED.best_gameweek
+                                                OR EXCLUDED.best_gameweek_points > t.best_gameweek_points
+                                                THEN EXCLUDED.best_gameweek
+                                            ELSE t.best_gameweek
+                                        END,
+                        best_gameweek_points = CASE
+                                                   WHEN t.best_gameweek IS NULL OR t.best_gameweek = EXCLUDED.best_gameweek
+                                                       OR EXCLUDED.best_gameweek_points > t.best_gameweek_points
+                                                       THEN EXCLUDED.best_gameweek_points
+                                                   ELSE t.best_gameweek_points
+                                               END
+            )
+            SELECT 'U' AS kind, id, total_points FROM users
+            UNION ALL
+            SELECT DISTINCT 'L', league_id, 0 FROM standings
+            """;
+
+    public ScoringResult scoreFixture(Long fixtureId, String season, Team homeTeam, Team awayTeam) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fixtureId", fixtureId)
+                .addValue("season", season)
+                .addValue("allInWeekIndex", Chip.ALL_IN_WEEK.ordinal() + 1)
+                .addValue("homeTeam", (homeTeam != null) ? homeTeam.ordinal() : null, Types.INTEGER)
+                .addValue("awayTeam", (awayTeam != null) ? awayTeam.ordinal() : null, Types.INTEGER)
+                .addValue("teamSlots", Team.values().length * 4);
+        Map<Long, Integer> totalPointsByUser = new HashMap<>();
+        Set<Long> leagueIds = new HashSet<>();
+        jdbcTemplate.query(SCORE_FIXTURE, params, rs -> {
+            if ("U".equals(rs.getString("kind"))) {
+                totalPointsByUser.put(rs.getLong("id"), rs.getInt("total_points"));
+            } else {
+                leagueIds.add(rs.getLong("id"));
+            }
+        });
+        return new ScoringResult(totalPointsByUser, leagueIds);
+    }
+
+    public record ScoringResult(Map<Long, Integer> totalPointsByUser, Set<Long> leagueIds) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.komori.predictions.repository;
+
+// One user's row out of a league_standing_snapshot, picked out of the arrays by the database
+public interface SnapshotPositionView {
+    int getGameweek();
+    int getPoints();
+    int getRank();
+}
@@ -0,0 +1,11 @@
+package com.komori.predictions.repository;
+
+// A changed league_standing row as read by live standings polls
+public interface StandingChangeView {
+    Long getMemberId();
+    String getUserId();
+    String getUsername();
+    int getPoints();
+    int getRank();
+    Integer getPreviousRank();
+}
@@ -0,0 +1,88 @@
+package com.komori.predictions.repository;
+
+import com.komori.predictions.entity.Team;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.*;
+
+@Repository
+@RequiredArgsConstructor
+// Reads the rollups kept up to date by ScoringRepository; every query is a primary key lookup or prefix range
+public class StatisticsRepository {
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Optional<Totals> findTotals(Long userId) {
+        return jdbcTemplate.query("""
+                        SELECT predictions, correct, exact, points, weekday_predictions, best_gameweek, best_gameweek_points,
+                               team_stats
+                        FROM user_statistics
+                        WHERE user_id = :userId
+                        """, Map.of("userId", userId),
+                (rs, rowNum) -> new Totals(new Counts(rs.getInt("predictions"), rs.getInt("correct"), rs.getInt("exact"),
+                        rs.getInt("points")), toIntArray(rs.getArray("weekday_predictions")),
+                        rs.getObject("best_gameweek", Integer.class), rs.getInt("best_gameweek_points"),
+                        toIntArray(rs.getArray("team_stats")))).stream().findFirst();
+    }
+
+    public List<MonthCounts> findMonths(Long userId) {
+        return jdbcTemplate.query("""
+                        SELECT month, predictions, correct, exact, points
+                        FROM user_month_statistics
+                        WHERE user_id = :userId
+                        ORDER BY month
+                        """, Map.of("userId", userId),
+                (rs, rowNum) -> new MonthCounts(rs.getObject("month", LocalDate.class), new Counts(rs.getInt("predictions"),
+                        rs.getInt("correct"), rs.getInt("exact"), rs.getInt("points"))));
+    }
+
+    public Map<Integer, Integer> findGameweekPoints(Long userId, Collection<Integer> gameweeks) {
+        Map<Integer, Integer> points = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT gameweek, points
+                        FROM user_gameweek_statistics
+                        WHERE user_id = :userId AND gameweek IN (:gameweeks)
+                        """, Map.of("userId", userId, "gameweeks", gameweeks),
+                rs -> {
+                    points.put(rs.getInt("gameweek"), rs.getInt("points"));
+                });
+        return points;
+    }
+
+    private static int[] toIntArray(Array array) throws SQLException {
+        Integer[] boxed = (Integer[]) array.getArray();
+        int[] values = new int[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            values[i] = boxed[i];
+        }
+        return values;
+    }
+
+    public record Counts(int predictions, int correct, int exact, int points) {
+        public static final Counts EMPTY = new Counts(0, 0, 0, 0);
+
+        public int accuracy() {
+            return (predictions == 0) ? 0 : Math.round(correct * 100f / predictions);
+        }
+    }
+
+    // teamStats holds four slots per Team ordinal: predictions, correct, exact, points
+    public record Totals(Counts counts, int[] weekdayPredictions, Integer bestGameweek, int bestGameweekPoints,
+                         int[] teamStats) {
+        public Counts team(Team team) {
+            int base = team.ordinal() * 4;
+            if (base + 3 >= teamStats.length) {
+                return Counts.EMPTY; // Team added after this row was last written
+            }
+            return new Counts(teamStats[base], teamStats[base + 1], teamStats[base + 2], teamStats[base + 3]);
+        }
+    }
+
+    public record MonthCounts(LocalDate month, Counts counts) {
+    }
+
+}
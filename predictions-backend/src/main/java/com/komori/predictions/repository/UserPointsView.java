@@ -0,0 +1,7 @@
+package com.komori.predictions.repository;
+
+// Lightweight projection used to seed in-memory rankings without loading full UserEntity rows
+public interface UserPointsView {
+    Long getId();
+    int getTotalPoints();
+}
@@ -0,0 +1,11 @@
+package com.komori.predictions.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+// Principal built from verified access token claims; getName() keeps authentication.name resolving to the email
+public record AuthenticatedUser(Long id, String email) implements AuthenticatedPrincipal {
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,6 +1,6 @@
 package com.komori.predictions.security;
 
-import com.komori.predictions.service.CustomUserDetailsService;
+import com.komori.predictions.service.TokenVersionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -11,19 +11,20 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
-    private final CustomUserDetailsService customUserDetailsService;
+    private final TokenVersionService tokenVersionService;
     private final JwtUtil jwtUtil;
     private final List<String> PUBLIC_URLS = List.of("/auth/register", "/auth/login", "/auth/send-verify-otp", "/auth/verify-otp", "/auth/refresh");
 
@@ -57,21 +58,21 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             }
         }
 
-        // Validate the JWT, extract email, and set Security Context if user isn't already authenticated
-        if (jwt != null) {
-            String email = jwtUtil.extractEmailFromToken(jwt);
-            if (email != null) {
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-                if (jwtUtil.validateAccessToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                }
-            }
-        } else { // If jwt is still null
+        // Verify the JWT once and set Security Context from its claims; an invalid, expired or revoked token is treated like a missing one
+        Optional<JwtUtil.VerifiedToken> verified = (jwt != null) ? jwtUtil.verify(jwt) : Optional.empty();
+        if (verified.isPresent() && !verified.get().isRefreshToken() && isCurrentVersion(verified.get())) {
+            AuthenticatedUser principal = new AuthenticatedUser(verified.get().userId(), verified.get().email());
+            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, List.of());
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        } else {
             SecurityContextHolder.clearContext();
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean isCurrentVersion(JwtUtil.VerifiedToken token) {
+        return Objects.equals(tokenVersionService.currentVersion(token.userId()), token.tokenVersion());
+    }
 }
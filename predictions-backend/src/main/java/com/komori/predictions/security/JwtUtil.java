@@ -1,48 +1,102 @@
 package com.komori.predictions.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseCookie;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
-    @Value("${jwt.secret.key}")
-    private String STORED_SECRET_KEY;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String FAMILY_CLAIM = "fam"; // Refresh tokens only
+    public static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
+    private final SecretKey secretKey;
+    private final JwtParser parser;
+    // SHA-256 of a recently verified token -> its claims, kept until the token itself expires
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(ByteBuffer digest, VerifiedToken token, long currentTime) {
+                    return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+                }
 
-    private String generateAccessToken(String email) {
+                @Override
+                public long expireAfterUpdate(ByteBuffer digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(ByteBuffer digest, VerifiedToken token, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // familyId and tokenId are only set on refresh tokens
+    public record VerifiedToken(Long userId, String email, int tokenVersion, UUID familyId, UUID tokenId, Instant expiresAt) {
+        public boolean isRefreshToken() {
+            return familyId != null && tokenId != null;
+        }
+    }
+
+    // The key and parser are immutable and thread-safe, so both are built once
+    public JwtUtil(@Value("${jwt.secret.key}") String storedSecretKey) {
+        this.secretKey = Keys.hmacShaKeyFor(storedSecretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    private String generateAccessToken(Long userId, String email, int tokenVersion) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
         return Jwts.builder()
                 .claims(claims)
                 .subject(email)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 5)) // 5 min expiration
-                .signWith(Keys.hmacShaKeyFor(STORED_SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+                .signWith(secretKey)
                 .compact();
     }
 
-    private String generateRefreshToken(String email) {
+    private String generateRefreshToken(Long userId, String email, int tokenVersion, UUID familyId, UUID tokenId) {
         Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
+        claims.put(FAMILY_CLAIM, familyId.toString());
         return Jwts.builder()
                 .claims(claims)
+                .id(tokenId.toString())
                 .subject(email)
                 .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 14)) // 14 day expiration
-                .signWith(Keys.hmacShaKeyFor(STORED_SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+                .expiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_TTL.toMillis()))
+                .signWith(secretKey)
                 .compact();
     }
 
-    public ResponseCookie createAccessTokenCookie(String email) {
-        return ResponseCookie.from("access", generateAccessToken(email))
+    public ResponseCookie createAccessTokenCookie(Long userId, String email, int tokenVersion) {
+        return ResponseCookie.from("access", generateAccessToken(userId, email, tokenVersion))
                 .httpOnly(true)
                 .path("/")
                 .secure(true)
@@ -51,37 +105,65 @@ public class JwtUtil {
                 .build();
     }
 
-    public ResponseCookie createRefreshTokenCookie(String email) {
-        return ResponseCookie.from("refresh", generateRefreshToken(email))
+    // Starts a new token family, as on login
+    public ResponseCookie createRefreshTokenCookie(Long userId, String email, int tokenVersion) {
+        return createRefreshTokenCookie(userId, email, tokenVersion, UUID.randomUUID(), UUID.randomUUID());
+    }
+
+    // The next generation of an existing family; tokenId comes from RefreshTokenService.rotate
+    public ResponseCookie createRefreshTokenCookie(Long userId, String email, int tokenVersion, UUID familyId, UUID tokenId) {
+        return ResponseCookie.from("refresh", generateRefreshToken(userId, email, tokenVersion, familyId, tokenId))
                 .httpOnly(true)
                 .path("/")
                 .secure(true)
-                .maxAge(Duration.ofDays(14))
+                .maxAge(REFRESH_TOKEN_TTL)
                 .sameSite("None")
                 .build();
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(Keys.hmacShaKeyFor(STORED_SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    public String extractEmailFromToken(String token) {
-        Claims claims = extractAllClaims(token);
-        return claims.getSubject();
-    }
+    // Verifies signature and expiry once; a token seen before is answered from the digest cache
+    public Optional<VerifiedToken> verify(String token) {
+        ByteBuffer digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return cached.expiresAt().isAfter(Instant.now()) ? Optional.of(cached) : Optional.empty();
+        }
 
-    public Boolean isTokenExpired(String token) {
-        Claims claims = extractAllClaims(token);
-        Date expiration = claims.getExpiration();
-        return expiration.before(new Date());
+        Claims claims;
+        try {
+            claims = extractAllClaims(token);
+        } catch (JwtException | IllegalArgumentException e) { // Bad signature, malformed or expired
+            return Optional.empty();
+        }
+        // Tokens issued before the id and version claims existed are rejected, forcing one fresh login
+        if (claims.getSubject() == null || claims.getExpiration() == null
+                || !(claims.get(USER_ID_CLAIM) instanceof Number userId)
+                || !(claims.get(TOKEN_VERSION_CLAIM) instanceof Number tokenVersion)) {
+            return Optional.empty();
+        }
+        UUID familyId;
+        UUID tokenId;
+        try {
+            familyId = (claims.get(FAMILY_CLAIM) instanceof String family) ? UUID.fromString(family) : null;
+            tokenId = (claims.getId() != null) ? UUID.fromString(claims.getId()) : null;
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        VerifiedToken verified = new VerifiedToken(userId.longValue(), claims.getSubject(), tokenVersion.intValue(),
+                familyId, tokenId, claims.getExpiration().toInstant());
+        verifiedTokens.put(digest, verified);
+        return Optional.of(verified);
     }
 
-    public Boolean validateAccessToken(String token, UserDetails userDetails) {
-        final String email = extractEmailFromToken(token);
-        return email.equals(userDetails.getUsername()) && !isTokenExpired(token);
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // Every JRE ships SHA-256
+        }
     }
 }
@@ -0,0 +1,207 @@
+package com.komori.predictions.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.komori.predictions.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletRequestWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Component
+// Throttles the unauthenticated endpoints whose every call costs a BCrypt hash, an email or a DB read.
+// Runs ahead of JwtRequestFilter and the controllers, checking the client IP first and then the email in the body,
+// so a flood from one address never gets as far as creating per-email state.
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TokenBucketRateLimiter limiter;
+    private final List<IpAddressMatcher> trustedProxies;
+    private static final int MAX_BODY_BYTES = 16 * 1024; // Auth payloads are a few fields
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.limiter = new TokenBucketRateLimiter(properties.getMaxKeys());
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !"POST".equals(request.getMethod())
+                || !properties.getEndpoints().containsKey(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getServletPath();
+        RateLimitProperties.Limit limit = properties.getEndpoints().get(path);
+
+        if (limit.getIpCapacity() > 0) {
+            Duration wait = limiter.tryAcquire(path + "|ip|" + clientAddress(request), limit.getIpCapacity(), limit.getPeriod());
+            if (!wait.isZero()) {
+                reject(response, wait);
+                return;
+            }
+        }
+
+        if (limit.getEmailCapacity() > 0) {
+            byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                response.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                return;
+            }
+            String email = extractEmail(body);
+            if (email != null) {
+                Duration wait = limiter.tryAcquire(path + "|email|" + email, limit.getEmailCapacity(), limit.getPeriod());
+                if (!wait.isZero()) {
+                    reject(response, wait);
+                    return;
+                }
+            }
+            request = new CachedBodyRequest(request, body); // The controller still needs to read the body
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    // getRemoteAddr() can't be used: with forward-headers-strategy "framework" it is the left-most X-Forwarded-For
+    // entry, which the client writes itself. Instead start from the socket peer and walk X-Forwarded-For from the
+    // right only while the hop is a trusted proxy; the first hop that isn't is the address that reached our proxies.
+    private String clientAddress(HttpServletRequest request) {
+        ServletRequest original = request;
+        while (original instanceof ServletRequestWrapper wrapper) {
+            original = wrapper.getRequest(); // Below ForwardedHeaderFilter, which hides the forwarded headers
+        }
+        String client = original.getRemoteAddr();
+        if (!isTrustedProxy(client) || !(original instanceof HttpServletRequest http)) {
+            return client;
+        }
+
+        List<String> hops = new ArrayList<>();
+        for (String header : Collections.list(http.getHeaders("X-Forwarded-For"))) {
+            for (String hop : header.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            client = hops.get(i);
+            if (!isTrustedProxy(client)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false; // Not an IP literal; never resolved as a hostname
+            }
+        }
+        return false;
+    }
+
+    // A body that isn't JSON or has no email is left for the controller to reject; the IP limit still applied
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return (email != null && email.isTextual()) ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Same body shape as GlobalExceptionHandler, which this filter runs outside of
+    private void reject(HttpServletResponse response, Duration wait) throws IOException {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("error", status.getReasonPhrase());
+        body.put("message", "Too many requests, try again shortly");
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (wait.toMillis() + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(@NonNull byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
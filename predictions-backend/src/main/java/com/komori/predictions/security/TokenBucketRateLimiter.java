@@ -0,0 +1,69 @@
+package com.komori.predictions.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+
+// Token buckets in a size-bounded cache. A bucket untouched for its whole refill period is full again, so it expires
+// then; maxKeys caps memory when more keys arrive within one period, e.g. a flood of made-up emails. Caffeine's
+// frequency-based admission keeps the buckets that are being hit over one-off keys, so such a flood can't push
+// out (and thereby refill) the bucket of the address sending it.
+class TokenBucketRateLimiter {
+    private final Cache<String, Bucket> buckets;
+
+    TokenBucketRateLimiter(long maxKeys) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new Expiry<String, Bucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+                        return bucket.periodNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+                        return bucket.periodNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    // Takes one token; returns zero when allowed, otherwise how long until the next token
+    Duration tryAcquire(String key, int capacity, Duration period) {
+        long now = System.nanoTime();
+        double nanosPerToken = (double) period.toNanos() / capacity;
+        long[] waitNanos = new long[1];
+        // compute runs atomically per key, so requests only contend on the same key
+        buckets.asMap().compute(key, (k, bucket) -> {
+            Bucket current = (bucket != null) ? bucket : new Bucket(capacity, now, period.toNanos());
+            current.tokens = Math.min(capacity, current.tokens + (now - current.lastRefill) / nanosPerToken);
+            current.lastRefill = now;
+            if (current.tokens >= 1) {
+                current.tokens -= 1;
+            } else {
+                waitNanos[0] = (long) Math.ceil((1 - current.tokens) * nanosPerToken);
+            }
+            return current;
+        });
+        return Duration.ofNanos(waitNanos[0]);
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefill;
+        private final long periodNanos;
+
+        private Bucket(double tokens, long lastRefill, long periodNanos) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+            this.periodNanos = periodNanos;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.komori.predictions.service;
 
 import com.komori.predictions.entity.OtpEntity;
 import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.event.UserRegisteredEvent;
 import com.komori.predictions.exception.*;
 import com.komori.predictions.dto.request.RegistrationRequest;
 import com.komori.predictions.dto.response.RegistrationResponse;
@@ -9,6 +10,7 @@ import com.komori.predictions.repository.OtpRepository;
 import com.komori.predictions.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,7 @@ public class AuthService {
     private final OtpRepository otpRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RegistrationResponse registerNewUser(RegistrationRequest request) {
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -31,6 +34,7 @@ public class AuthService {
         }
         UserEntity newUser = convertToUserEntity(request);
         userRepository.save(newUser);
+        eventPublisher.publishEvent(new UserRegisteredEvent(newUser.getId()));
         RegistrationResponse response = convertToRegistrationResponse(newUser);
         emailService.sendWelcomeEmail(response.getEmail(), response.getName());
         return response;
@@ -80,13 +84,14 @@ public class AuthService {
         }
     }
 
-    public void checkVerifiedStatus(String email) {
+    public UserEntity checkVerifiedStatus(String email) {
         UserEntity user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
 
         if (!user.getAccountVerified()) {
             throw new AccountNotVerifiedException();
         }
+        return user;
     }
 
     private UserEntity convertToUserEntity(RegistrationRequest request) {
@@ -0,0 +1,142 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.config.AppProperties;
+import com.komori.predictions.dto.response.ChipStatus;
+import com.komori.predictions.dto.response.ChipStatusResponse;
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.ChipUsageEntity;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.exception.ChipUnavailableException;
+import com.komori.predictions.repository.ChipUsageRepository;
+import com.komori.predictions.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+// A user's chip history for the season is one row: a gameweek bitmask per chip.
+// Availability is derived from the masks and the fixture calendar, so /chips/status is a single primary key read.
+public class ChipService {
+    private static final Chip[] CHIPS = Chip.values();
+    private final ChipUsageRepository chipUsageRepository;
+    private final UserRepository userRepository;
+    private final FixtureCache fixtureCache;
+    private final AppProperties appProperties;
+
+    public ChipStatusResponse getStatus(String email) {
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+        return getStatus(currentUser.getId());
+    }
+
+    public ChipStatusResponse getStatus(Long userId) {
+        long[] usage = loadUsage(userId);
+        int gameweek = fixtureCache.currentGameweek();
+
+        List<ChipStatus> chips = Arrays.stream(CHIPS)
+                .map(chip -> statusOf(chip, maskOf(usage, chip), gameweek))
+                .toList();
+        return new ChipStatusResponse(chips, gameweek, appProperties.getSeason());
+    }
+
+    // Validates every play against the stored masks (and the rest of the batch) before marking any,
+    // so a rejected batch records nothing. Runs inside the caller's transaction so the marks commit with the predictions.
+    // The usage row is read FOR UPDATE, so two concurrent submissions can't both pass the same limit check.
+    public void recordUsage(Long userId, List<ChipPlay> plays) {
+        if (plays.isEmpty()) {
+            return;
+        }
+        chipUsageRepository.createIfAbsent(userId, appProperties.getSeason(), CHIPS.length);
+        long[] stored = chipUsageRepository.findForUpdate(userId, appProperties.getSeason())
+                .map(ChipUsageEntity::getUsage)
+                .orElse(new long[0]);
+        FixtureCalendar calendar = fixtureCache.calendar();
+        Instant now = Instant.now();
+        long[] usage = Arrays.copyOf(stored, CHIPS.length);
+        Map<String, Long> claimedBy = new HashMap<>(); // "chip:gameweek" -> fixture, for match chips within this batch
+        for (ChipPlay play : plays) {
+            Chip chip = play.chip();
+            long bit = 1L << play.gameweek();
+            if (chip.isMatchScoped()) {
+                Long claimant = claimedBy.putIfAbsent(chip.name() + ":" + play.gameweek(), play.fixtureId());
+                if (claimant != null && !claimant.equals(play.fixtureId())) {
+                    throw new ChipUnavailableException();
+                }
+            }
+            if ((usage[chip.ordinal()] & bit) != 0) {
+                // Played earlier this gameweek: fine for a re-submitted prediction, but a match chip only covers one match
+                if (chip.isMatchScoped() && (maskOf(stored, chip) & bit) != 0
+                        && chipUsageRepository.isPlayedElsewhere(userId, play.gameweek(), play.fixtureId(), chip.name())) {
+                    throw new ChipUnavailableException();
+                }
+            } else if (!statusOf(chip, usage[chip.ordinal()], play.gameweek()).isAvailable()) {
+                throw new ChipUnavailableException();
+            } else if (!chip.isMatchScoped() && calendar.gameweekDeadline(play.gameweek()).map(deadline -> !now.isBefore(deadline)).orElse(true)) {
+                throw new ChipUnavailableException(); // Gameweek chips can only be newly played before the gameweek's first kickoff
+            }
+            usage[chip.ordinal()] |= bit;
+        }
+
+        for (Chip chip : CHIPS) {
+            long added = usage[chip.ordinal()] & ~maskOf(stored, chip);
+            if (added != 0) {
+                chipUsageRepository.markUsed(userId, appProperties.getSeason(), chip.ordinal() + 1, added);
+            }
+        }
+    }
+
+    private long[] loadUsage(Long userId) {
+        return chipUsageRepository.findByUserIdAndSeason(userId, appProperties.getSeason())
+                .map(ChipUsageEntity::getUsage)
+                .orElse(new long[0]);
+    }
+
+    private static long maskOf(long[] usage, Chip chip) {
+        return (chip.ordinal() < usage.length) ? usage[chip.ordinal()] : 0L;
+    }
+
+    private static ChipStatus statusOf(Chip chip, long mask, int gameweek) {
+        int usageCount = Long.bitCount(mask);
+        long playedSoFar = mask & ((1L << (gameweek + 1)) - 1); // Gameweeks up to and including this one
+        Integer lastUsed = (playedSoFar == 0) ? null : 63 - Long.numberOfLeadingZeros(playedSoFar);
+        // Predictions can be made ahead, so a play in a later gameweek blocks this one just as an earlier play does
+        int cooldown = chip.getCooldownGameweeks();
+        long window = (-1L >>> (63 - Math.min(63, gameweek + cooldown))) & (-1L << Math.max(0, gameweek - cooldown));
+        long conflicts = mask & window;
+        int remainingGameweeks = (conflicts == 0) ? 0 : 63 - Long.numberOfLeadingZeros(conflicts) + cooldown + 1 - gameweek;
+        Integer remainingUses = (chip.getSeasonLimit() == null) ? null : Math.max(0, chip.getSeasonLimit() - usageCount);
+
+        String reason;
+        if (remainingUses != null && remainingUses == 0) {
+            reason = "Season limit reached";
+        } else if ((mask & (1L << gameweek)) != 0) {
+            reason = "Already used this gameweek";
+        } else if (remainingGameweeks > 0) {
+            reason = "On cooldown";
+        } else {
+            reason = "Available";
+        }
+
+        return ChipStatus.builder()
+                .chipId(chip)
+                .available(reason.equals("Available"))
+                .reason(reason)
+                .scope(chip.isMatchScoped() ? "match" : "gameweek")
+                .seasonUsageCount(usageCount)
+                .seasonLimit(chip.getSeasonLimit())
+                .remainingUses(remainingUses)
+                .remainingGameweeks(remainingGameweeks)
+                .lastUsedGameweek(lastUsed)
+                .build();
+    }
+
+    public record ChipPlay(Long fixtureId, int gameweek, Chip chip) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.dto.response.ChipStatusResponse;
+import com.komori.predictions.dto.response.DashboardResponse;
+import com.komori.predictions.dto.response.GlobalRank;
+import com.komori.predictions.dto.response.LeagueSummary;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.repository.StatisticsRepository;
+import com.komori.predictions.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// Builds the whole dashboard from one user lookup. The database-backed sections run concurrently on virtual
+// threads under one shared deadline; a section that misses it or fails is reported in "partial" instead of
+// failing the response. Sections across all requests share a permit pool smaller than the connection pool,
+// so a dashboard burst can't take every connection away from the write paths.
+public class DashboardService {
+    private final UserRepository userRepository;
+    private final StatisticsRepository statisticsRepository;
+    private final GlobalLeaderboardService leaderboardService;
+    private final LeagueService leagueService;
+    private final ChipService chipService;
+    private final FixtureCache fixtureCache;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private static final Comparator<LeagueSummary> LEAGUE_ORDER = Comparator.comparing(LeagueSummary::getName)
+            .thenComparing(LeagueSummary::getUuid);
+
+    private Semaphore sectionPermits;
+
+    @Value("${app.dashboard.deadline-ms:750}")
+    private long deadlineMs;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int connectionPoolSize;
+
+    @PostConstruct
+    public void init() {
+        sectionPermits = new Semaphore(Math.max(1, connectionPoolSize / 2));
+    }
+
+    public DashboardResponse getDashboard(String email, int leagueLimit) {
+        UserEntity user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        int currentGameweek = fixtureCache.currentGameweek();
+        GlobalRank rank = leaderboardService.getRankForPoints(user.getTotalPoints()); // In memory, no need to fan out
+
+        Future<DashboardResponse.Stats> stats = submit(deadline, () -> buildStats(user, currentGameweek, rank));
+        Future<List<LeagueSummary>> leagues = submit(deadline, () -> leagueService.getLeaguesForUser(email).stream()
+                .sorted(LEAGUE_ORDER)
+                .limit(Math.max(0, leagueLimit))
+                .toList());
+        Future<ChipStatusResponse> chips = submit(deadline, () -> chipService.getStatus(user.getId()));
+
+        List<String> partial = new ArrayList<>();
+        return DashboardResponse.builder()
+                .user(new DashboardResponse.DashboardUser(user.getUserID(), user.getUsername(), user.getFirstName(),
+                        user.getLastName(), user.getEmail(), user.getFavouriteTeam(), user.getTotalPoints(), rank.getRank()))
+                .season(new DashboardResponse.Season(currentGameweek, fixtureCache.lastGameweek()))
+                .stats(await("stats", stats, deadline, partial))
+                .leagues(await("leagues", leagues, deadline, partial))
+                .chips(await("chips", chips, deadline, partial))
+                .partial(partial)
+                .build();
+    }
+
+    private DashboardResponse.Stats buildStats(UserEntity user, int currentGameweek, GlobalRank rank) {
+        StatisticsRepository.Counts counts = statisticsRepository.findTotals(user.getId())
+                .map(StatisticsRepository.Totals::counts)
+                .orElse(StatisticsRepository.Counts.EMPTY);
+        Map<Integer, Integer> weekly = statisticsRepository.findGameweekPoints(user.getId(),
+                List.of(currentGameweek, currentGameweek - 1));
+        int thisWeek = weekly.getOrDefault(currentGameweek, 0);
+        double percentile = (rank.getTotalPlayers() == 0) ? 100 : rank.getRank() * 100.0 / rank.getTotalPlayers();
+
+        return new DashboardResponse.Stats(
+                new DashboardResponse.WeeklyPoints(thisWeek, thisWeek - weekly.getOrDefault(currentGameweek - 1, 0)),
+                new DashboardResponse.AccuracyRate(counts.accuracy(), counts.correct(), counts.predictions()),
+                new DashboardResponse.GlobalRankStat(rank.getRank(), percentile));
+    }
+
+    // A section only starts if it gets a permit before the deadline, so one that await has already given up on
+    // never touches the database
+    private <T> Future<T> submit(long deadline, Callable<T> section) {
+        return executor.submit(() -> {
+            if (!sectionPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("No section permit before the deadline");
+            }
+            try {
+                return section.call();
+            } finally {
+                sectionPermits.release();
+            }
+        });
+    }
+
+    // Waits only for what is left of the shared deadline. A late section is abandoned without an interrupt,
+    // since interrupting a thread mid-query can break its pooled connection.
+    private <T> T await(String section, Future<T> future, long deadline, List<String> partial) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            log.warn("Dashboard section {} missed the {} ms deadline", section, deadlineMs);
+        } catch (ExecutionException e) {
+            log.warn("Dashboard section {} failed: {}", section, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+        }
+        partial.add(section);
+        return null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
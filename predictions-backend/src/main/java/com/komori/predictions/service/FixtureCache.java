@@ -0,0 +1,82 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.entity.FixtureEntity;
+import com.komori.predictions.repository.FixtureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// Read-mostly copy of the season's fixtures so the prediction write path never queries fixture_entity.
+// A season is a few hundred rows, so the whole map is swapped on every reload.
+// Time-based questions (current gameweek, next kickoff, fixtures in a window) go to the FixtureCalendar built alongside.
+// Lock flags live here too; KickoffLockScheduler sets them, and ingestion only clears one when a fixture is
+// moved to a later kickoff.
+public class FixtureCache {
+    private final FixtureRepository fixtureRepository;
+    private volatile Map<Long, CachedFixture> fixtures = Map.of();
+    private volatile FixtureCalendar calendar = FixtureCalendar.EMPTY;
+    private final Set<Long> lockedFixtures = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<FixtureEntity> entities = fixtureRepository.findAll();
+        Map<Long, CachedFixture> loaded = entities.stream()
+                .map(CachedFixture::of)
+                .collect(Collectors.toUnmodifiableMap(CachedFixture::id, Function.identity()));
+        calendar = FixtureCalendar.of(loaded.values());
+        fixtures = loaded;
+        entities.stream()
+                .filter(FixtureEntity::isLocked)
+                .forEach(fixture -> lockedFixtures.add(fixture.getId())); // Merged, so a lock set mid-reload survives
+        log.info("Fixture cache loaded with {} fixtures", fixtures.size());
+    }
+
+    public Optional<CachedFixture> get(Long fixtureId) {
+        return Optional.ofNullable(fixtures.get(fixtureId));
+    }
+
+    public boolean isLocked(Long fixtureId) {
+        return lockedFixtures.contains(fixtureId);
+    }
+
+    public FixtureCalendar calendar() {
+        return calendar;
+    }
+
+    public int currentGameweek() {
+        return calendar.currentGameweek(Instant.now());
+    }
+
+    public int lastGameweek() {
+        return calendar.lastGameweek();
+    }
+
+    void markLocked(Long fixtureId) {
+        lockedFixtures.add(fixtureId);
+    }
+
+    void markUnlocked(Long fixtureId) {
+        lockedFixtures.remove(fixtureId);
+    }
+
+    public record CachedFixture(Long id, int gameweek, String homeTeam, String awayTeam, Instant kickoff) {
+        static CachedFixture of(FixtureEntity fixture) {
+            return new CachedFixture(fixture.getId(), fixture.getGameweek(), fixture.getHomeTeam(),
+                    fixture.getAwayTeam(), fixture.getKickoff());
+        }
+    }
+}
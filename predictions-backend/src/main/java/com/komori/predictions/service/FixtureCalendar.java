@@ -0,0 +1,106 @@
+package com.komori.predictions.service;
+
+import java.time.Instant;
+import java.util.*;
+
+// Immutable kickoff-ordered view of the season, built on every FixtureCache reload and swapped in whole,
+// so readers never see a half-built calendar. Every query is a binary search over primitive arrays.
+public final class FixtureCalendar {
+    static final FixtureCalendar EMPTY = of(List.of());
+    private final FixtureCache.CachedFixture[] byKickoff;
+    private final long[] kickoffs; // Epoch millis, parallel to byKickoff
+    private final long[] firstKickoffByGameweek; // Indexed by gameweek, Long.MAX_VALUE for an empty gameweek
+    private final int lastGameweek;
+
+    private FixtureCalendar(FixtureCache.CachedFixture[] byKickoff) {
+        this.byKickoff = byKickoff;
+        this.kickoffs = new long[byKickoff.length];
+        int last = 1;
+        for (int i = 0; i < byKickoff.length; i++) {
+            kickoffs[i] = byKickoff[i].kickoff().toEpochMilli();
+            last = Math.max(last, byKickoff[i].gameweek());
+        }
+        this.lastGameweek = last;
+        this.firstKickoffByGameweek = new long[last + 1];
+        Arrays.fill(firstKickoffByGameweek, Long.MAX_VALUE);
+        for (int i = 0; i < byKickoff.length; i++) {
+            int gameweek = byKickoff[i].gameweek();
+            if (gameweek >= 0) {
+                firstKickoffByGameweek[gameweek] = Math.min(firstKickoffByGameweek[gameweek], kickoffs[i]);
+            }
+        }
+    }
+
+    static FixtureCalendar of(Collection<FixtureCache.CachedFixture> fixtures) {
+        FixtureCache.CachedFixture[] sorted = fixtures.toArray(FixtureCache.CachedFixture[]::new);
+        Arrays.sort(sorted, Comparator.comparing(FixtureCache.CachedFixture::kickoff)
+                .thenComparing(FixtureCache.CachedFixture::id));
+        return new FixtureCalendar(sorted);
+    }
+
+    public Optional<FixtureCache.CachedFixture> nextFixture(Instant now) {
+        int index = firstAfter(now.toEpochMilli());
+        return (index < byKickoff.length) ? Optional.of(byKickoff[index]) : Optional.empty();
+    }
+
+    // The gameweek whose deadline passed most recently, or the first gameweek before the season starts.
+    // Going by deadlines rather than the next fixture keeps a postponed match from dragging the season back a week.
+    public int currentGameweek(Instant now) {
+        long millis = now.toEpochMilli();
+        int current = -1;
+        int first = -1;
+        for (int gameweek = 0; gameweek < firstKickoffByGameweek.length; gameweek++) {
+            long deadline = firstKickoffByGameweek[gameweek];
+            if (deadline == Long.MAX_VALUE) {
+                continue;
+            }
+            if (first < 0 || deadline < firstKickoffByGameweek[first]) {
+                first = gameweek;
+            }
+            if (deadline <= millis && (current < 0 || deadline > firstKickoffByGameweek[current])) {
+                current = gameweek;
+            }
+        }
+        if (current >= 0) {
+            return current;
+        }
+        return (first >= 0) ? first : lastGameweek;
+    }
+
+    public int lastGameweek() {
+        return lastGameweek;
+    }
+
+    // The gameweek's first kickoff, which is when gameweek-wide chips stop being playable
+    public Optional<Instant> gameweekDeadline(int gameweek) {
+        if (gameweek < 0 || gameweek >= firstKickoffByGameweek.length || firstKickoffByGameweek[gameweek] == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochMilli(firstKickoffByGameweek[gameweek]));
+    }
+
+    // Fixtures kicking off in [from, to), in kickoff order
+    public List<FixtureCache.CachedFixture> fixturesBetween(Instant from, Instant to) {
+        int start = firstAtOrAfter(from.toEpochMilli());
+        int end = firstAtOrAfter(to.toEpochMilli());
+        return (start < end) ? List.of(Arrays.copyOfRange(byKickoff, start, end)) : List.of();
+    }
+
+    private int firstAtOrAfter(long millis) {
+        int low = 0;
+        int high = kickoffs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (kickoffs[mid] < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int firstAfter(long millis) {
+        return (millis == Long.MAX_VALUE) ? kickoffs.length : firstAtOrAfter(millis + 1);
+    }
+}
@@ -0,0 +1,127 @@
+package com.komori.predictions.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+// Reads fixture and result feed files. JSON is an array of fixtures, or an object with a "fixtures" array.
+// CSV has a header row naming the same fields, with scorers separated by '|'.
+// Any field other than id may be missing; a missing field leaves the stored value alone.
+public class FixtureFeedParser {
+    private final ObjectMapper objectMapper;
+
+    public List<FeedFixture> parse(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".json")) {
+            return parseJson(file);
+        }
+        if (name.endsWith(".csv")) {
+            return parseCsv(file);
+        }
+        throw new IllegalArgumentException("Unsupported feed file: " + file.getFileName());
+    }
+
+    private List<FeedFixture> parseJson(Path file) throws IOException {
+        JsonNode root = objectMapper.readTree(file.toFile());
+        JsonNode fixtures = root.isArray() ? root : root.path("fixtures");
+        if (!fixtures.isArray()) {
+            throw new IllegalArgumentException("No fixtures array in " + file.getFileName());
+        }
+        List<FeedFixture> parsed = new ArrayList<>(fixtures.size());
+        for (JsonNode fixture : fixtures) {
+            parsed.add(objectMapper.treeToValue(fixture, FeedFixture.class));
+        }
+        return parsed;
+    }
+
+    private List<FeedFixture> parseCsv(Path file) throws IOException {
+        List<FeedFixture> parsed = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return parsed;
+            }
+            List<String> header = splitCsvLine(headerLine);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                List<String> cells = splitCsvLine(line);
+                Map<String, String> row = new HashMap<>();
+                for (int i = 0; i < header.size() && i < cells.size(); i++) {
+                    if (!cells.get(i).isBlank()) {
+                        row.put(header.get(i).trim(), cells.get(i).trim());
+                    }
+                }
+                parsed.add(new FeedFixture(
+                        Long.valueOf(row.get("id")),
+                        toInteger(row.get("gameweek")),
+                        row.get("homeTeam"),
+                        row.get("awayTeam"),
+                        row.containsKey("kickoff") ? Instant.parse(row.get("kickoff")) : null,
+                        row.get("status"),
+                        toInteger(row.get("homeScore")),
+                        toInteger(row.get("awayScore")),
+                        toScorers(row.get("homeScorers")),
+                        toScorers(row.get("awayScorers"))));
+            }
+        }
+        return parsed;
+    }
+
+    // Handles double-quoted cells (with "" as an escaped quote), enough for team and player names
+    private static List<String> splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    private static Integer toInteger(String value) {
+        return (value != null) ? Integer.valueOf(value) : null;
+    }
+
+    private static List<String> toScorers(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(value.split("\\|")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+
+    public record FeedFixture(Long id, Integer gameweek, String homeTeam, String awayTeam, Instant kickoff, String status,
+                              Integer homeScore, Integer awayScore, List<String> homeScorers, List<String> awayScorers) {
+    }
+}
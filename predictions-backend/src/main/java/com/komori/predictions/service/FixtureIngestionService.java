@@ -0,0 +1,223 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.entity.FixtureEntity;
+import com.komori.predictions.entity.FixtureStatus;
+import com.komori.predictions.repository.FixtureJdbcRepository;
+import com.komori.predictions.repository.FixtureRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// Picks up fixture and result feeds dropped into app.feed.directory, diffs them against the stored fixtures
+// and upserts only what changed in one statement. Fixtures whose result changed are then scored, in kickoff order,
+// along with any finished fixture still holding pending predictions from a scoring run that failed.
+// Handled files are moved into processed/ or failed/ inside the drop directory.
+public class FixtureIngestionService {
+    private final FixtureFeedParser feedParser;
+    private final FixtureRepository fixtureRepository;
+    private final FixtureJdbcRepository fixtureJdbcRepository;
+    private final ScoringService scoringService;
+    private final FixtureCache fixtureCache;
+    private final KickoffLockScheduler lockScheduler;
+
+    @Value("${app.feed.directory:feeds}")
+    private Path feedDirectory;
+
+    @Scheduled(fixedDelayString = "${app.feed.poll-interval-ms:60000}")
+    public void scanFeedDirectory() {
+        if (!Files.isDirectory(feedDirectory)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(feedDirectory)) {
+            files = listing.filter(Files::isRegularFile)
+                    .filter(file -> file.toString().endsWith(".json") || file.toString().endsWith(".csv"))
+                    .sorted() // Name order, so a fixtures file can be made to land before its results
+                    .toList();
+        } catch (IOException e) {
+            log.error("Could not list feed directory {}: {}", feedDirectory, e.getMessage());
+            return;
+        }
+
+        for (Path file : files) {
+            try {
+                IngestionReport report = ingest(feedParser.parse(file));
+                log.info("Ingested {}: {}", file.getFileName(), report);
+                moveTo(file, "processed");
+            } catch (Exception e) {
+                log.error("Could not ingest {}: {}", file.getFileName(), e.getMessage());
+                moveTo(file, "failed");
+            }
+        }
+        if (files.isEmpty()) {
+            scoreResults(List.of()); // Retries failed scoring even when no new feed arrives
+        }
+    }
+
+    public IngestionReport ingest(List<FixtureFeedParser.FeedFixture> feed) {
+        Map<Long, FixtureFeedParser.FeedFixture> latest = new LinkedHashMap<>(); // A repeated id keeps its last row
+        feed.forEach(row -> latest.put(row.id(), row));
+        Map<Long, FixtureEntity> stored = fixtureRepository.findAllById(latest.keySet()).stream()
+                .collect(Collectors.toMap(FixtureEntity::getId, Function.identity()));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        List<FixtureEntity> rescheduled = new ArrayList<>();
+        List<Long> resulted = new ArrayList<>();
+        int skipped = 0;
+        for (FixtureFeedParser.FeedFixture row : latest.values()) {
+            FixtureEntity current = stored.get(row.id());
+            Optional<FixtureEntity> merged = merge(current, row);
+            if (merged.isEmpty()) {
+                skipped++;
+                continue;
+            }
+            FixtureEntity next = merged.get();
+            if (current != null && sameFixture(current, next)) {
+                continue;
+            }
+            rows.add(toRow(next));
+            if (current == null || !current.getKickoff().equals(next.getKickoff())) {
+                rescheduled.add(next);
+            }
+            if (next.getStatus() == FixtureStatus.FINISHED && (current == null || !sameResult(current, next))) {
+                resulted.add(next.getId());
+            }
+        }
+
+        int written = fixtureJdbcRepository.upsertAll(rows);
+        if (written > 0) {
+            fixtureCache.reload();
+            Instant now = Instant.now();
+            for (FixtureEntity fixture : rescheduled) {
+                // Mirrors the upsert, which already unlocked the row for a future kickoff
+                if (fixture.getKickoff().isAfter(now) && fixture.getStatus() == FixtureStatus.SCHEDULED) {
+                    fixtureCache.markUnlocked(fixture.getId());
+                }
+                if (!fixtureCache.isLocked(fixture.getId())) {
+                    lockScheduler.schedule(fixture.getId(), fixture.getKickoff());
+                }
+            }
+        }
+
+        int scored = scoreResults(resulted);
+        return new IngestionReport(latest.size(), written, latest.size() - written - skipped, skipped, scored);
+    }
+
+    // Each fixture is scored in its own transaction after the result is written, so a failure leaves its predictions
+    // PENDING; findFinishedWithPendingPredictions picks them up again on the next run
+    private int scoreResults(List<Long> resulted) {
+        Map<Long, FixtureEntity> toScore = new HashMap<>();
+        fixtureRepository.findAllById(resulted).forEach(fixture -> toScore.put(fixture.getId(), fixture));
+        fixtureRepository.findFinishedWithPendingPredictions().forEach(fixture -> toScore.putIfAbsent(fixture.getId(), fixture));
+
+        // Gameweek then kickoff order, so each gameweek's standings snapshot is taken after its last fixture
+        List<FixtureEntity> ordered = new ArrayList<>(toScore.values());
+        ordered.sort(Comparator.comparingInt(FixtureEntity::getGameweek).thenComparing(FixtureEntity::getKickoff));
+        int scored = 0;
+        for (FixtureEntity fixture : ordered) {
+            try {
+                scoringService.scoreFixture(fixture);
+                scored++;
+            } catch (RuntimeException e) {
+                log.error("Could not score fixture {}, it will be retried", fixture.getId(), e);
+            }
+        }
+        return scored;
+    }
+
+    // Overlays the feed row on the stored fixture. A new fixture needs its gameweek, teams and kickoff.
+    private Optional<FixtureEntity> merge(FixtureEntity current, FixtureFeedParser.FeedFixture row) {
+        if (current == null && (row.gameweek() == null || row.homeTeam() == null || row.awayTeam() == null
+                || row.kickoff() == null)) {
+            log.warn("Skipping new fixture {}: gameweek, teams and kickoff are required", row.id());
+            return Optional.empty();
+        }
+        FixtureEntity base = (current != null) ? current : FixtureEntity.builder().id(row.id()).build();
+        Integer homeScore = (row.homeScore() != null) ? row.homeScore() : base.getHomeScore();
+        Integer awayScore = (row.awayScore() != null) ? row.awayScore() : base.getAwayScore();
+        return Optional.of(FixtureEntity.builder()
+                .id(row.id())
+                .gameweek((row.gameweek() != null) ? row.gameweek() : base.getGameweek())
+                .homeTeam((row.homeTeam() != null) ? row.homeTeam() : base.getHomeTeam())
+                .awayTeam((row.awayTeam() != null) ? row.awayTeam() : base.getAwayTeam())
+                .kickoff((row.kickoff() != null) ? row.kickoff() : base.getKickoff())
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .homeScorers((row.homeScorers() != null) ? row.homeScorers().toArray(String[]::new) : base.getHomeScorers())
+                .awayScorers((row.awayScorers() != null) ? row.awayScorers().toArray(String[]::new) : base.getAwayScorers())
+                .status(toStatus(row.status(), base.getStatus(), homeScore, awayScore))
+                .build());
+    }
+
+    // Feeds say "FT" or "FINISHED"; with no status at all, a fixture carrying both scores is treated as finished
+    private static FixtureStatus toStatus(String status, FixtureStatus current, Integer homeScore, Integer awayScore) {
+        if (status != null) {
+            String normalized = status.trim().toUpperCase(Locale.ROOT);
+            return switch (normalized) {
+                case "FT", "FULL_TIME", "FINISHED", "COMPLETED" -> FixtureStatus.FINISHED;
+                default -> FixtureStatus.SCHEDULED;
+            };
+        }
+        if (homeScore != null && awayScore != null) {
+            return FixtureStatus.FINISHED;
+        }
+        return (current != null) ? current : FixtureStatus.SCHEDULED;
+    }
+
+    private static boolean sameFixture(FixtureEntity a, FixtureEntity b) {
+        return a.getGameweek() == b.getGameweek()
+                && a.getHomeTeam().equals(b.getHomeTeam())
+                && a.getAwayTeam().equals(b.getAwayTeam())
+                && a.getKickoff().equals(b.getKickoff())
+                && a.getStatus() == b.getStatus()
+                && sameResult(a, b);
+    }
+
+    private static boolean sameResult(FixtureEntity a, FixtureEntity b) {
+        return Objects.equals(a.getHomeScore(), b.getHomeScore())
+                && Objects.equals(a.getAwayScore(), b.getAwayScore())
+                && Arrays.equals(a.getHomeScorers(), b.getHomeScorers())
+                && Arrays.equals(a.getAwayScorers(), b.getAwayScorers());
+    }
+
+    private static Map<String, Object> toRow(FixtureEntity fixture) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", fixture.getId());
+        row.put("gameweek", fixture.getGameweek());
+        row.put("home_team", fixture.getHomeTeam());
+        row.put("away_team", fixture.getAwayTeam());
+        row.put("kickoff", fixture.getKickoff().toString());
+        row.put("home_score", fixture.getHomeScore());
+        row.put("away_score", fixture.getAwayScore());
+        row.put("home_scorers", fixture.getHomeScorers());
+        row.put("away_scorers", fixture.getAwayScorers());
+        row.put("status", fixture.getStatus().name());
+        return row;
+    }
+
+    private void moveTo(Path file, String folder) {
+        try {
+            Path target = feedDirectory.resolve(folder);
+            Files.createDirectories(target);
+            Files.move(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.error("Could not move {} to {}: {}", file.getFileName(), folder, e.getMessage());
+        }
+    }
+
+    public record IngestionReport(int received, int written, int unchanged, int skipped, int scored) {
+    }
+}
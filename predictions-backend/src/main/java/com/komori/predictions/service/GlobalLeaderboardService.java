@@ -0,0 +1,162 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.dto.response.GlobalRank;
+import com.komori.predictions.dto.response.StandingEntry;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.event.ScoresAppliedEvent;
+import com.komori.predictions.event.UserRegisteredEvent;
+import com.komori.predictions.repository.UserPointsView;
+import com.komori.predictions.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// Season-wide ranking kept entirely in memory: seeded from user_entity at startup, then moved by ScoresAppliedEvent.
+// Rank lookups are O(log maxPoints) via the Fenwick tree; top-N walks the highest point buckets.
+public class GlobalLeaderboardService {
+    private final UserRepository userRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> pointsByUser = new HashMap<>();
+    private final NavigableMap<Integer, NavigableSet<Long>> usersByPoints = new TreeMap<>(Comparator.reverseOrder());
+    private PointsFenwickTree counts = new PointsFenwickTree(0);
+    private static final int MAX_TOP = 100;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<UserPointsView> users = userRepository.findAllProjectedBy();
+        lock.writeLock().lock();
+        try {
+            pointsByUser.clear();
+            usersByPoints.clear();
+            counts = new PointsFenwickTree(users.stream().mapToInt(UserPointsView::getTotalPoints).max().orElse(0));
+            users.forEach(user -> place(user.getId(), Math.max(user.getTotalPoints(), 0)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Global leaderboard seeded with {} players", users.size());
+    }
+
+    // New players enter at 0 points straight away, so totalPlayers and ranks count them before they first score
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!pointsByUser.containsKey(event.userId())) {
+                place(event.userId(), 0);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoresApplied(ScoresAppliedEvent event) {
+        lock.writeLock().lock();
+        try {
+            event.totalPointsByUser().forEach(this::move);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public GlobalRank getRank(String email) {
+        UserEntity user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+        return getRankForPoints(user.getTotalPoints());
+    }
+
+    public GlobalRank getRankForPoints(int totalPoints) {
+        int points = Math.max(totalPoints, 0);
+
+        lock.readLock().lock();
+        try {
+            return GlobalRank.builder()
+                    .rank((int) counts.countGreaterThan(points) + 1)
+                    .points(points)
+                    .totalPlayers(counts.total())
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<StandingEntry> getTop(int n) {
+        int limit = Math.max(1, Math.min(n, MAX_TOP));
+        List<StandingEntry> top = new ArrayList<>(limit);
+
+        lock.readLock().lock();
+        try {
+            int ahead = 0;
+            for (Map.Entry<Integer, NavigableSet<Long>> bucket : usersByPoints.entrySet()) {
+                for (Long userId : bucket.getValue()) {
+                    if (top.size() == limit) {
+                        break;
+                    }
+                    top.add(StandingEntry.builder()
+                            .memberId(userId)
+                            .points(bucket.getKey())
+                            .rank(ahead + 1) // Tied players share a rank
+                            .build());
+                }
+                if (top.size() == limit) {
+                    break;
+                }
+                ahead += bucket.getValue().size();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // Names are filled in with one lookup for the page, outside the lock
+        Map<Long, UserEntity> users = userRepository.findAllById(top.stream().map(StandingEntry::getMemberId).toList())
+                .stream()
+                .collect(Collectors.toMap(UserEntity::getId, Function.identity()));
+        top.forEach(entry -> {
+            UserEntity user = users.get(entry.getMemberId());
+            if (user != null) {
+                entry.setUserId(user.getUserID());
+                entry.setUsername(user.getUsername() != null ? user.getUsername() : user.getFirstName());
+            }
+        });
+        return top;
+    }
+
+    private void move(Long userId, int totalPoints) {
+        Integer previous = pointsByUser.get(userId);
+        if (previous != null) {
+            remove(userId, previous);
+        }
+        place(userId, Math.max(totalPoints, 0));
+    }
+
+    private void place(Long userId, int points) {
+        pointsByUser.put(userId, points);
+        usersByPoints.computeIfAbsent(points, p -> new TreeSet<>()).add(userId);
+        counts.add(points, 1);
+    }
+
+    private void remove(Long userId, int points) {
+        pointsByUser.remove(userId);
+        NavigableSet<Long> bucket = usersByPoints.get(points);
+        if (bucket != null) {
+            bucket.remove(userId);
+            if (bucket.isEmpty()) {
+                usersByPoints.remove(points);
+            }
+        }
+        counts.add(points, -1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.entity.FixtureEntity;
+import com.komori.predictions.repository.FixtureRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// Locks each fixture at kickoff, in fixture_entity and in FixtureCache, so prediction reads and writes
+// only ever check an in-memory flag. Re-seeded from every unlocked fixture on startup.
+public class KickoffLockScheduler {
+    private final FixtureRepository fixtureRepository;
+    private final FixtureCache fixtureCache;
+    private static final Duration MIN_RETRY_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_BACKOFF = Duration.ofMinutes(1);
+    private final TimingWheel wheel = new TimingWheel("kickoff-locks", Duration.ofSeconds(1), 512);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        List<FixtureEntity> unlocked = fixtureRepository.findByLockedFalse();
+        unlocked.forEach(fixture -> schedule(fixture.getId(), fixture.getKickoff())); // Past kickoffs fire on the next tick
+        log.info("Scheduled kickoff locks for {} fixtures", unlocked.size());
+    }
+
+    // Scheduling the same fixture twice is harmless, locking is idempotent
+    public void schedule(Long fixtureId, Instant kickoff) {
+        schedule(fixtureId, kickoff, 0);
+    }
+
+    private void schedule(Long fixtureId, Instant when, int failures) {
+        wheel.schedule(when, () -> lockIfDue(fixtureId, failures));
+    }
+
+    // The wheel drops a timer once it fires, so a failed lock is re-armed here with exponential backoff
+    private void lockIfDue(Long fixtureId, int failures) {
+        Optional<FixtureCache.CachedFixture> fixture = fixtureCache.get(fixtureId);
+        if (fixture.isPresent() && fixture.get().kickoff().isAfter(Instant.now())) {
+            schedule(fixtureId, fixture.get().kickoff()); // Kickoff was moved back since this was scheduled
+            return;
+        }
+        try {
+            fixtureRepository.lockFixture(fixtureId);
+        } catch (RuntimeException e) {
+            Duration backoff = MIN_RETRY_BACKOFF.multipliedBy(1L << Math.min(failures, 16));
+            backoff = (backoff.compareTo(MAX_RETRY_BACKOFF) > 0) ? MAX_RETRY_BACKOFF : backoff;
+            log.error("Failed to lock fixture {}, retrying in {}s", fixtureId, backoff.toSeconds(), e);
+            schedule(fixtureId, Instant.now().plus(backoff), failures + 1);
+            return;
+        }
+        fixtureCache.markLocked(fixtureId);
+        log.info("Locked predictions for fixture {}", fixtureId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+    }
+}
@@ -0,0 +1,43 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.config.CacheConfig;
+import com.komori.predictions.event.LeagueMembershipChangedEvent;
+import com.komori.predictions.event.ScoresAppliedEvent;
+import com.komori.predictions.repository.LeagueRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+// Evicts cached league reads once the change that made them stale has committed.
+// Member counts shown in other members' league lists are left to expire with the cache TTL.
+public class LeagueCacheInvalidator {
+    private final CacheManager cacheManager;
+    private final LeagueRepository leagueRepository;
+    private static final int MAX_TARGETED_EVICTIONS = 500; // Past this, clearing is cheaper than looking up uuids
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(LeagueMembershipChangedEvent event) {
+        cache(CacheConfig.LEAGUE_STANDINGS).evict(event.leagueUuid());
+        cache(CacheConfig.USER_LEAGUES).evict(event.email());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoresApplied(ScoresAppliedEvent event) {
+        Cache standings = cache(CacheConfig.LEAGUE_STANDINGS);
+        if (event.leagueIds().size() > MAX_TARGETED_EVICTIONS) {
+            standings.clear();
+        } else if (!event.leagueIds().isEmpty()) {
+            leagueRepository.findUuidsByIdIn(event.leagueIds()).forEach(standings::evict);
+        }
+    }
+
+    private Cache cache(String name) {
+        return Objects.requireNonNull(cacheManager.getCache(name));
+    }
+}
@@ -0,0 +1,96 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.config.AppProperties;
+import com.komori.predictions.repository.LeagueRepository;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+@Component
+// Hands out private league codes by pushing league_code_seq values through a keyed permutation of the code space.
+// A permutation never maps two inputs to the same output, so codes are unique without checking the table first.
+// The key must stay fixed once codes have been issued, otherwise new codes can land on old ones.
+public class LeagueCodeAllocator {
+    private static final String ALPHABET = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final int CODE_LENGTH = 6;
+    private static final long CODE_SPACE = 56_800_235_584L; // 62^6
+    private static final int HALF_BITS = 18; // 36-bit Feistel block, the smallest even width covering 62^6
+    private static final long HALF_MASK = (1L << HALF_BITS) - 1;
+    private static final int ROUNDS = 4;
+
+    private final LeagueRepository leagueRepository;
+    private final long[] roundKeys = new long[ROUNDS];
+
+    public LeagueCodeAllocator(LeagueRepository leagueRepository, AppProperties appProperties) {
+        this.leagueRepository = leagueRepository;
+        // With a known key the sequence makes every private code computable, so there is no fallback
+        String key = appProperties.getLeagueCodeKey();
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException("app.league-code-key (LEAGUE_CODE_KEY) must be set");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(key.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer buffer = ByteBuffer.wrap(digest);
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = buffer.getLong();
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Legacy random codes could in theory coincide with a permuted one; the unique index rejects that create
+    public String nextCode() {
+        return encode(permute(nextSequenceValue()));
+    }
+
+    private long nextSequenceValue() {
+        long value = leagueRepository.nextLeagueCodeValue();
+        if (value >= CODE_SPACE) {
+            throw new IllegalStateException("League code space exhausted");
+        }
+        return value;
+    }
+
+    // Cycle-walking keeps the 36-bit Feistel permutation inside [0, 62^6); about 1.2 rounds on average
+    private long permute(long value) {
+        long result = value;
+        do {
+            result = feistel(result);
+        } while (result >= CODE_SPACE);
+        return result;
+    }
+
+    private long feistel(long block) {
+        long left = block >>> HALF_BITS;
+        long right = block & HALF_MASK;
+        for (int i = 0; i < ROUNDS; i++) {
+            long next = left ^ round(right, roundKeys[i]);
+            left = right;
+            right = next;
+        }
+        return (left << HALF_BITS) | right;
+    }
+
+    private static long round(long half, long key) {
+        long h = (half ^ key) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        h *= 0xBF58476D1CE4E5B9L;
+        h ^= h >>> 32;
+        return h & HALF_MASK;
+    }
+
+    private static String encode(long value) {
+        char[] code = new char[CODE_LENGTH];
+        long remaining = value;
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = ALPHABET.charAt((int) (remaining % ALPHABET.length()));
+            remaining /= ALPHABET.length();
+        }
+        return new String(code);
+    }
+}
@@ -1,19 +1,27 @@
 package com.komori.predictions.service;
 
+import com.komori.predictions.dto.response.GameweekPosition;
 import com.komori.predictions.dto.response.LeagueStanding;
 import com.komori.predictions.dto.response.LeagueSummary;
+import com.komori.predictions.dto.response.StandingsPage;
+import com.komori.predictions.config.CacheConfig;
 import com.komori.predictions.entity.LeagueEntity;
 import com.komori.predictions.entity.Publicity;
 import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.event.LeagueMembershipChangedEvent;
 import com.komori.predictions.exception.IncorrectLeagueCodeException;
 import com.komori.predictions.exception.LeagueAlreadyJoinedException;
 import com.komori.predictions.exception.LeagueNotFoundException;
 import com.komori.predictions.exception.PublicityMismatchException;
 import com.komori.predictions.repository.LeagueRepository;
 import com.komori.predictions.repository.UserRepository;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.*;
 
@@ -23,54 +31,92 @@ import java.util.*;
 public class LeagueService {
     private final LeagueRepository leagueRepository;
     private final UserRepository userRepository;
+    private final LeagueStandingService standingService;
+    private final LeagueCodeAllocator leagueCodeAllocator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StandingsSnapshotService snapshotService;
+    private final LiveStandingsService liveStandingsService;
 
+    @Cacheable(CacheConfig.LEAGUE_STANDINGS)
     public LeagueStanding getLeagueStandings(String uuid) {
-        LeagueEntity newLeague = leagueRepository.findByUUID(uuid)
+        LeagueEntity league = leagueRepository.findByUUID(uuid)
                 .orElseThrow(LeagueNotFoundException::new);
 
-        Set<UserEntity> users = newLeague.getUsers();
-        Map<String, Integer> usersAndPoints = new HashMap<>();
-        users.forEach(
-                user -> usersAndPoints.put(user.getFirstName(), user.getTotalPoints())
-        );
-
         return LeagueStanding.builder()
-                .leagueName(newLeague.getName())
-                .usersAndPoints(usersAndPoints)
+                .leagueName(league.getName())
+                .standings(standingService.getStandings(league.getId()))
                 .build();
     }
 
+    public StandingsPage getStandingsPage(String uuid, String cursor, int limit) {
+        LeagueEntity league = leagueRepository.findByUUID(uuid)
+                .orElseThrow(LeagueNotFoundException::new);
+
+        StandingsPage page = standingService.getPage(league.getId(), cursor, limit);
+        page.setLeagueName(league.getName());
+        return page;
+    }
+
+    public StandingsPage getTopStandings(String uuid, int top) {
+        StandingsPage page = getStandingsPage(uuid, null, top);
+        page.setNextCursor(null); // Top-N is a fixed view, not the start of a scroll
+        return page;
+    }
+
+    public StandingsPage getStandingsAroundUser(String email, String uuid, int neighbours) {
+        LeagueEntity league = leagueRepository.findByUUID(uuid)
+                .orElseThrow(LeagueNotFoundException::new);
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+
+        StandingsPage page = standingService.getWindowAround(league.getId(), currentUser.getId(), neighbours);
+        page.setLeagueName(league.getName());
+        return page;
+    }
+
+    public List<GameweekPosition> getStandingsHistory(String email, String uuid) {
+        LeagueEntity league = leagueRepository.findByUUID(uuid)
+                .orElseThrow(LeagueNotFoundException::new);
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+
+        return snapshotService.getHistory(league.getId(), currentUser.getId());
+    }
+
+    public SseEmitter subscribeToStandings(String uuid) {
+        LeagueEntity league = leagueRepository.findByUUID(uuid)
+                .orElseThrow(LeagueNotFoundException::new);
+        return liveStandingsService.subscribe(league.getId());
+    }
+
+    @Transactional
     public LeagueSummary createLeague(String email, String name, Publicity publicity) {
         UserEntity currentUser = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
 
-        String leagueCode = "";
-        if (publicity == Publicity.PRIVATE) {
-            do {
-                leagueCode = generateLeagueCode();
-            } while (leagueRepository.existsByLeagueCode(leagueCode));
-        }
+        String leagueCode = (publicity == Publicity.PRIVATE) ? leagueCodeAllocator.nextCode() : null;
 
         LeagueEntity newLeague = new LeagueEntity();
         newLeague.setName(name);
         newLeague.setPublicity(publicity);
         newLeague.setLeagueCode(leagueCode);
         newLeague.setUUID(UUID.randomUUID().toString());
+        newLeague.setMemberCount(1);
         newLeague.addUser(currentUser);
 
         LeagueEntity savedLeague = leagueRepository.save(newLeague);
+        standingService.addMember(savedLeague.getId(), currentUser);
+        eventPublisher.publishEvent(new LeagueMembershipChangedEvent(savedLeague.getUUID(), email));
 
         return leagueEntityToSummary(savedLeague);
     }
 
+    @Cacheable(CacheConfig.USER_LEAGUES)
     public Set<LeagueSummary> getLeaguesForUser(String email) {
-        UserEntity userEntity = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        return Set.copyOf(userEntity.getLeagues().stream()
-                .map(this::leagueEntityToSummary)
-                .toList());
+        return Set.copyOf(leagueRepository.findSummariesByMemberEmail(email));
     }
 
+    @Transactional
     public String joinPublicLeague(String email, String uuid) {
         LeagueEntity newLeague = leagueRepository.findByUUID(uuid)
                 .orElseThrow(LeagueNotFoundException::new);
@@ -79,20 +125,11 @@ public class LeagueService {
             throw new PublicityMismatchException();
         }
 
-        UserEntity currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
-
-        List<String> emails = newLeague.getUsers().stream().map(UserEntity::getEmail).toList();
-        if (emails.contains(email)) {
-            throw new LeagueAlreadyJoinedException();
-        }
-
-        newLeague.addUser(currentUser);
-        leagueRepository.save(newLeague);
-
+        addMember(newLeague, email);
         return newLeague.getName();
     }
 
+    @Transactional
     public String joinPrivateLeague(String email, String code) {
         LeagueEntity newLeague = leagueRepository.findByLeagueCode(code)
                 .orElseThrow(IncorrectLeagueCodeException::new);
@@ -104,32 +141,23 @@ public class LeagueService {
             throw new PublicityMismatchException();
         }
 
-        UserEntity currentUser = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
-
-        List<String> emails = newLeague.getUsers().stream().map(UserEntity::getEmail).toList();
-        if (emails.contains(email)) {
-            throw new LeagueAlreadyJoinedException();
-        }
-
-        newLeague.addUser(currentUser);
-        leagueRepository.save(newLeague);
-
+        addMember(newLeague, email);
         return newLeague.getName();
     }
 
-    private String generateLeagueCode() {
-        String chars = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
-        Random random = new Random();
-        int l = chars.length();
-        StringBuilder code = new StringBuilder();
+    // Never touches the existing member set, so joining costs the same for any league size.
+    // The primary key on user_league_table makes concurrent joins by the same user safe: only one insert wins.
+    private void addMember(LeagueEntity league, String email) {
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
 
-        for (int i = 0; i < 6; i++) {
-            int index = random.nextInt(l);
-            code.append(chars.charAt(index));
+        if (leagueRepository.insertMembership(league.getId(), currentUser.getId()) == 0) {
+            throw new LeagueAlreadyJoinedException();
         }
 
-        return code.toString();
+        leagueRepository.incrementMemberCount(league.getId(), 1);
+        standingService.addMember(league.getId(), currentUser);
+        eventPublisher.publishEvent(new LeagueMembershipChangedEvent(league.getUUID(), email));
     }
 
     private LeagueSummary leagueEntityToSummary(LeagueEntity league) {
@@ -137,7 +165,7 @@ public class LeagueService {
                 .uuid(league.getUUID())
                 .name(league.getName())
                 .publicity(league.getPublicity())
-                .numberOfMembers(league.getUsers().size())
+                .numberOfMembers(league.getMemberCount())
                 .build();
     }
 }
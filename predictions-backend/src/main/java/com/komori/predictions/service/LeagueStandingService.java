@@ -0,0 +1,112 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.dto.response.StandingEntry;
+import com.komori.predictions.dto.response.StandingsPage;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.exception.InvalidCursorException;
+import com.komori.predictions.exception.NotLeagueMemberException;
+import com.komori.predictions.repository.LeagueStandingRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+// Keeps the league_standing read model in step with memberships; points arrive through ScoringRepository
+public class LeagueStandingService {
+    private final LeagueStandingRepository standingRepository;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    public List<StandingEntry> getStandings(Long leagueId) {
+        return standingRepository.findStandings(leagueId);
+    }
+
+    // Cost depends only on the page size, never on the size of the league
+    public StandingsPage getPage(Long leagueId, String cursor, int limit) {
+        int pageSize = clampPageSize(limit);
+        Limit fetchLimit = Limit.of(pageSize + 1); // One extra row tells us whether there is a next page
+
+        List<StandingEntry> entries;
+        if (cursor == null || cursor.isBlank()) {
+            entries = standingRepository.findFirstPage(leagueId, fetchLimit);
+        } else {
+            long[] position = decodeCursor(cursor);
+            entries = standingRepository.findPageAfter(leagueId, (int) position[0], position[1], fetchLimit);
+        }
+
+        String nextCursor = null;
+        if (entries.size() > pageSize) {
+            entries = entries.subList(0, pageSize);
+            nextCursor = encodeCursor(entries.getLast());
+        }
+
+        return StandingsPage.builder()
+                .entries(entries)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public StandingsPage getWindowAround(Long leagueId, Long userId, int neighbours) {
+        int windowSize = clampPageSize(neighbours);
+        StandingEntry caller = standingRepository.findEntry(leagueId, userId)
+                .orElseThrow(NotLeagueMemberException::new);
+
+        List<StandingEntry> above = new ArrayList<>(standingRepository.findPageBefore(
+                leagueId, caller.getPoints(), caller.getMemberId(), Limit.of(windowSize)));
+        Collections.reverse(above);
+        List<StandingEntry> below = standingRepository.findPageAfter(
+                leagueId, caller.getPoints(), caller.getMemberId(), Limit.of(windowSize + 1));
+
+        List<StandingEntry> window = new ArrayList<>(above);
+        window.add(caller);
+        String nextCursor = null;
+        if (below.size() > windowSize) {
+            below = below.subList(0, windowSize);
+            window.addAll(below);
+            nextCursor = encodeCursor(below.getLast());
+        } else {
+            window.addAll(below);
+        }
+
+        return StandingsPage.builder()
+                .entries(window)
+                .nextCursor(nextCursor)
+                .callerRank(caller.getRank())
+                .build();
+    }
+
+    // Touches only the newcomer's row. A newcomer on 0 points ties with everyone else on 0, so nobody moves;
+    // one joining mid-season with points leaves the members behind them a place high until the next scoring rerank.
+    @Transactional
+    public void addMember(Long leagueId, UserEntity user) {
+        standingRepository.lockLeague(leagueId);
+        standingRepository.insertMember(leagueId, user.getId(), user.getTotalPoints());
+    }
+
+    private int clampPageSize(int requested) {
+        return Math.max(1, Math.min(requested, MAX_PAGE_SIZE));
+    }
+
+    // Cursors are opaque to clients: base64url("points:memberId") of the last entry returned
+    private String encodeCursor(StandingEntry entry) {
+        String raw = entry.getPoints() + ":" + entry.getMemberId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new long[] { Integer.parseInt(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)) };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
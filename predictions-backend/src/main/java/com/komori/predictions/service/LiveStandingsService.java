@@ -0,0 +1,197 @@
+package com.komori.predictions.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.komori.predictions.dto.response.StandingEntry;
+import com.komori.predictions.repository.LeagueStandingRepository;
+import com.komori.predictions.repository.StandingChangeView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+// Pushes standings changes to SSE subscribers. Each watched league has one channel that polls league_standing for
+// rows changed since its last tick and sends the same serialized payload to every subscriber, so database load
+// depends on the number of live leagues, not the number of connections. Idle emitters hold no request thread.
+// Sends run on a small dedicated pool, never on the shared scheduler thread; a subscriber that falls
+// MAX_PENDING_EVENTS behind is dropped and its EventSource reconnects.
+public class LiveStandingsService {
+    private final LeagueStandingRepository standingRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<Long, LeagueChannel> channels = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sendExecutor;
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis(); // EventSource reconnects after this
+    private static final int MAX_PENDING_EVENTS = 16;
+
+    public LiveStandingsService(LeagueStandingRepository standingRepository, ObjectMapper objectMapper,
+                                @Value("${app.live-standings.send-threads:4}") int sendThreads,
+                                @Value("${app.live-standings.send-queue:10000}") int sendQueue) {
+        this.standingRepository = standingRepository;
+        this.objectMapper = objectMapper;
+        this.sendExecutor = new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueue), Thread.ofPlatform().name("standings-sse-", 0).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public SseEmitter subscribe(Long leagueId) {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        long watermark = standingRepository.currentChangeWatermark();
+        channels.compute(leagueId, (id, channel) -> {
+            LeagueChannel current = (channel != null) ? channel : new LeagueChannel(watermark);
+            current.subscribers.add(subscriber);
+            return current;
+        });
+
+        Runnable unsubscribe = () -> unsubscribe(leagueId, subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${app.live-standings.interval-ms:2000}")
+    public void publishChanges() {
+        if (channels.isEmpty()) {
+            return;
+        }
+        // Taken before reading, so a transaction committing mid-tick is read again next time rather than missed
+        long tickWatermark = standingRepository.currentChangeWatermark();
+        channels.forEach((leagueId, channel) -> {
+            List<StandingChangeView> changed = standingRepository.findChangedSince(leagueId, channel.watermark);
+            List<StandingEntry> deltas = channel.unsent(changed);
+            channel.watermark = tickWatermark;
+
+            if (!deltas.isEmpty()) {
+                try {
+                    String payload = objectMapper.writeValueAsString(deltas);
+                    channel.broadcast(SseEmitter.event().name("standings").data(payload, MediaType.APPLICATION_JSON).build());
+                } catch (JsonProcessingException e) {
+                    log.error("Failed to serialize standings deltas for league {}: {}", leagueId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    // Keeps proxies from closing quiet connections between matchdays
+    @Scheduled(fixedRate = 25_000)
+    public void sendHeartbeats() {
+        channels.values().forEach(channel -> channel.broadcast(SseEmitter.event().comment("keep-alive").build()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+    }
+
+    private void unsubscribe(Long leagueId, Subscriber subscriber) {
+        channels.computeIfPresent(leagueId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private static class LeagueChannel {
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private volatile long watermark;
+        // What was last sent per member, so rows read again while their transaction is above the watermark aren't resent
+        private Map<Long, Long> lastSent = new HashMap<>();
+
+        private LeagueChannel(long watermark) {
+            this.watermark = watermark;
+        }
+
+        private List<StandingEntry> unsent(List<StandingChangeView> changed) {
+            Map<Long, Long> sent = new HashMap<>();
+            List<StandingEntry> deltas = changed.stream()
+                    .filter(row -> {
+                        long state = ((long) row.getPoints() << 32) | (row.getRank() & 0xFFFFFFFFL);
+                        sent.put(row.getMemberId(), state);
+                        return !Long.valueOf(state).equals(lastSent.get(row.getMemberId()));
+                    })
+                    .map(row -> StandingEntry.builder()
+                            .memberId(row.getMemberId())
+                            .userId(row.getUserId())
+                            .username(row.getUsername())
+                            .points(row.getPoints())
+                            .rank(row.getRank())
+                            .previousRank(row.getPreviousRank())
+                            .build())
+                    .toList();
+            lastSent = sent; // Only rows still at or above the watermark can come back
+            return deltas;
+        }
+
+        private void broadcast(Set<SseEmitter.DataWithMediaType> event) {
+            subscribers.forEach(subscriber -> subscriber.offer(event));
+        }
+    }
+
+    // Events for one connection are queued and sent in order by at most one pool task at a time
+    private class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Set<SseEmitter.DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean dropped;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<SseEmitter.DataWithMediaType> event) {
+            if (dropped) {
+                return;
+            }
+            if (pending.size() >= MAX_PENDING_EVENTS) {
+                drop(new IOException("Subscriber fell too far behind"));
+                return;
+            }
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                    drop(e);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<SseEmitter.DataWithMediaType> event;
+                while (!dropped && (event = pending.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                drop(e);
+            } finally {
+                draining.set(false);
+            }
+            if (!dropped && !pending.isEmpty()) {
+                scheduleDrain(); // Something arrived after the last poll
+            }
+        }
+
+        private void drop(Exception cause) {
+            dropped = true;
+            pending.clear();
+            emitter.completeWithError(cause); // Triggers onError, which unsubscribes it
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.dto.response.CalendarFixture;
+import com.komori.predictions.dto.response.NextMatch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+// Answers calendar questions from FixtureCalendar alone; nothing here touches the database
+public class MatchService {
+    private static final Duration MAX_WINDOW = Duration.ofDays(62);
+    private final FixtureCache fixtureCache;
+
+    public Optional<NextMatch> getNextMatch() {
+        FixtureCalendar calendar = fixtureCache.calendar();
+        return calendar.nextFixture(Instant.now())
+                .map(fixture -> NextMatch.builder()
+                        .matchId(fixture.id())
+                        .gameweek(fixture.gameweek())
+                        .homeTeam(fixture.homeTeam())
+                        .awayTeam(fixture.awayTeam())
+                        .nextMatchTime(fixture.kickoff())
+                        .gameweekDeadline(calendar.gameweekDeadline(fixture.gameweek()).orElse(fixture.kickoff()))
+                        .build());
+    }
+
+    // Window is clamped to two months, which covers any sensible calendar view
+    public List<CalendarFixture> getFixturesBetween(Instant from, Instant to) {
+        Instant end = to.isAfter(from.plus(MAX_WINDOW)) ? from.plus(MAX_WINDOW) : to;
+        return fixtureCache.calendar().fixturesBetween(from, end).stream()
+                .map(fixture -> CalendarFixture.builder()
+                        .matchId(fixture.id())
+                        .gameweek(fixture.gameweek())
+                        .homeTeam(fixture.homeTeam())
+                        .awayTeam(fixture.awayTeam())
+                        .kickoff(fixture.kickoff())
+                        .locked(fixtureCache.isLocked(fixture.id()))
+                        .build())
+                .toList();
+    }
+}
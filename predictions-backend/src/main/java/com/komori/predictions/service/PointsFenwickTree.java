@@ -0,0 +1,57 @@
+package com.komori.predictions.service;
+
+// Counts players per points value so "how many players have more than p points" is O(log maxPoints).
+// Not thread-safe, GlobalLeaderboardService guards it.
+class PointsFenwickTree {
+    private long[] tree;
+    private long total;
+
+    PointsFenwickTree(int maxPoints) {
+        this.tree = new long[Math.max(maxPoints, 1) + 2];
+    }
+
+    void add(int points, long delta) {
+        ensureCapacity(points);
+        for (int i = points + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+        total += delta;
+    }
+
+    long countGreaterThan(int points) {
+        if (points + 1 >= tree.length) {
+            return 0;
+        }
+        return total - countAtMost(points);
+    }
+
+    long total() {
+        return total;
+    }
+
+    private long countAtMost(int points) {
+        long count = 0;
+        for (int i = points + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    // Rebuilds into a larger array when a score passes the current range; rare, since points only creep upwards
+    private void ensureCapacity(int points) {
+        if (points + 1 < tree.length) {
+            return;
+        }
+        long[] counts = new long[tree.length - 1];
+        for (int p = 0; p < counts.length; p++) {
+            counts[p] = countAtMost(p) - (p == 0 ? 0 : countAtMost(p - 1));
+        }
+        tree = new long[Math.max(tree.length * 2, points + 2)];
+        total = 0;
+        for (int p = 0; p < counts.length; p++) {
+            if (counts[p] != 0) {
+                add(p, counts[p]);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.komori.predictions.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.komori.predictions.dto.request.PredictionRequest;
+import com.komori.predictions.dto.response.PredictionHistoryEntry;
+import com.komori.predictions.dto.response.PredictionHistoryPage;
+import com.komori.predictions.dto.response.PredictionResponse;
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.PredictionStatus;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.exception.FixtureNotFoundException;
+import com.komori.predictions.exception.InvalidCursorException;
+import com.komori.predictions.exception.PredictionDeadlinePassedException;
+import com.komori.predictions.repository.PredictionJdbcRepository;
+import com.komori.predictions.repository.UserRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+public class PredictionService {
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final int MAX_HISTORY_PAGE_NUMBER = 1_000;
+    private final UserRepository userRepository;
+    private final PredictionJdbcRepository predictionJdbcRepository;
+    private final FixtureCache fixtureCache;
+    private final ChipService chipService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    // Validates against the in-memory fixture cache and lock flags, then writes the whole batch in one upsert
+    @Transactional
+    public List<PredictionResponse> submitPredictions(String email, List<PredictionRequest> requests) {
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+
+        Instant now = Instant.now();
+        Map<Long, PredictionRequest> byFixture = new LinkedHashMap<>(); // A repeated fixture keeps its last entry
+        Map<Long, FixtureCache.CachedFixture> fixtures = new HashMap<>();
+        for (PredictionRequest request : requests) {
+            FixtureCache.CachedFixture fixture = fixtureCache.get(request.getMatchId())
+                    .orElseThrow(FixtureNotFoundException::new);
+            // The kickoff check covers the gap before the lock timer fires, or while it is retrying
+            if (fixtureCache.isLocked(fixture.id()) || !fixture.kickoff().isAfter(now)) {
+                throw new PredictionDeadlinePassedException();
+            }
+            byFixture.put(fixture.id(), request);
+            fixtures.put(fixture.id(), fixture);
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>(byFixture.size());
+        byFixture.forEach((fixtureId, request) -> {
+            Map<String, Object> row = new HashMap<>();
+            row.put("fixture_id", fixtureId);
+            row.put("gameweek", fixtures.get(fixtureId).gameweek());
+            row.put("home_score", request.getHomeScore());
+            row.put("away_score", request.getAwayScore());
+            row.put("home_scorers", orEmpty(request.getHomeScorers()));
+            row.put("away_scorers", orEmpty(request.getAwayScorers()));
+            row.put("chips", orEmpty(request.getChips()).stream().map(Chip::name).toList());
+            rows.add(row);
+        });
+
+        // The upsert skips fixtures locked or scored since the cache check; any skipped row rolls back the whole batch,
+        // so chips are only recorded against predictions that were actually written
+        Map<Long, Long> savedIds = predictionJdbcRepository.upsertAll(currentUser.getId(), rows);
+        if (savedIds.size() < byFixture.size()) {
+            throw new PredictionDeadlinePassedException();
+        }
+
+        List<ChipService.ChipPlay> plays = new ArrayList<>();
+        byFixture.forEach((fixtureId, request) -> orEmpty(request.getChips()).stream().distinct()
+                .forEach(chip -> plays.add(new ChipService.ChipPlay(fixtureId, fixtures.get(fixtureId).gameweek(), chip))));
+        chipService.recordUsage(currentUser.getId(), plays);
+
+        return byFixture.entrySet().stream()
+                .map(entry -> toResponse(savedIds.get(entry.getKey()), fixtures.get(entry.getKey()), entry.getValue()))
+                .toList();
+    }
+
+    // Keyset pagination on (kickoff, id), newest first: every page costs the same however deep the user scrolls.
+    // Without a cursor, "page" (1-based) picks the starting page for clients that still page by number.
+    public PredictionHistoryPage getHistory(String email, String cursor, int page, int limit) {
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+
+        List<PredictionHistoryEntry> entries;
+        if (cursor == null || cursor.isBlank()) {
+            int offset = Math.min(Math.max(0, page - 1), MAX_HISTORY_PAGE_NUMBER) * pageSize;
+            entries = predictionJdbcRepository.findHistoryFirstPage(currentUser.getId(), offset, pageSize + 1);
+        } else {
+            long[] position = decodeCursor(cursor);
+            entries = predictionJdbcRepository.findHistoryPageAfter(currentUser.getId(),
+                    Instant.ofEpochMilli(position[0]), position[1], pageSize + 1);
+        }
+
+        boolean hasMore = entries.size() > pageSize;
+        if (hasMore) {
+            entries = entries.subList(0, pageSize);
+        }
+        String nextCursor = hasMore ? encodeCursor(entries.getLast()) : null;
+        return new PredictionHistoryPage(entries, new PredictionHistoryPage.Pagination(pageSize, nextCursor, hasMore));
+    }
+
+    // One JSON object per line, written as rows arrive from the cursor, so the export uses constant heap.
+    // The transaction only exists for the cursor, so it is read-only.
+    public StreamingResponseBody exportHistory(String email) {
+        UserEntity currentUser = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+        TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager(), transactionTemplate);
+        readOnly.setReadOnly(true);
+        return outputStream -> readOnly.executeWithoutResult(status ->
+                predictionJdbcRepository.streamHistory(currentUser.getId(), entry -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(entry));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+    }
+
+    // Cursors are opaque to clients: base64url("kickoffEpochMillis:predictionId") of the last entry returned
+    private String encodeCursor(PredictionHistoryEntry entry) {
+        String raw = entry.getKickoff().toEpochMilli() + ":" + entry.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            return new long[] { Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)) };
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    private PredictionResponse toResponse(Long id, FixtureCache.CachedFixture fixture, PredictionRequest request) {
+        return PredictionResponse.builder()
+                .id(id)
+                .matchId(fixture.id())
+                .gameweek(fixture.gameweek())
+                .homeTeam(fixture.homeTeam())
+                .awayTeam(fixture.awayTeam())
+                .homeScore(request.getHomeScore())
+                .awayScore(request.getAwayScore())
+                .homeScorers(orEmpty(request.getHomeScorers()))
+                .awayScorers(orEmpty(request.getAwayScorers()))
+                .chips(orEmpty(request.getChips()))
+                .status(PredictionStatus.PENDING)
+                .build();
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return (list != null) ? list : List.of();
+    }
+}
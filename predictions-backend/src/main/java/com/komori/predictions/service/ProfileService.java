@@ -1,9 +1,11 @@
 package com.komori.predictions.service;
 
 import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.event.CredentialsChangedEvent;
 import com.komori.predictions.exception.PasswordMismatchException;
 import com.komori.predictions.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,6 +16,7 @@ public class ProfileService {
     private final EmailService emailService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void resetPassword(String email) {
         UserEntity currentUser = userRepository.findByEmail(email)
@@ -22,7 +25,8 @@ public class ProfileService {
         emailService.sendResetPasswordEmail(email, currentUser.getFirstName());
     }
 
-    public void changePassword(String email, String oldPassword, String newPassword) {
+    // Bumping the token version signs out every other session; the caller reissues the current one's cookies
+    public UserEntity changePassword(String email, String oldPassword, String newPassword) {
         UserEntity currentUser = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
 
@@ -31,7 +35,10 @@ public class ProfileService {
         }
 
         currentUser.setPassword(passwordEncoder.encode(newPassword));
+        currentUser.setTokenVersion(currentUser.getTokenVersion() + 1);
         userRepository.save(currentUser);
+        eventPublisher.publishEvent(new CredentialsChangedEvent(currentUser.getId()));
         emailService.sendChangedPasswordEmail(email, currentUser.getFirstName());
+        return currentUser;
     }
 }
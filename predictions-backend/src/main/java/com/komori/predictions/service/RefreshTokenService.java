@@ -0,0 +1,121 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.repository.RefreshTokenFamilyRepository;
+import com.komori.predictions.repository.RefreshTokenFamilyRepository.RevokedFamily;
+import com.komori.predictions.security.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// Refresh token rotation with reuse detection. Every refresh token belongs to a family started at login, and the
+// family row holds the one generation (jti) that may be exchanged next, so storage grows with sessions, not refreshes.
+// Presenting an older generation means the token leaked, so the whole family is revoked. The only exception is the
+// generation rotated away in the last REUSE_GRACE, which gets the current one back: two tabs refreshing together.
+// Revocation is checked in memory, a Bloom filter in front of an exact set of revoked families seeded from
+// refresh_token_family and topped up from it, so a revoked family is refused without a database round-trip.
+// Rotating a live family is one conditional upsert, which is what catches reuse on another instance immediately.
+public class RefreshTokenService {
+    private static final Duration REUSE_GRACE = Duration.ofSeconds(10);
+    private static final int MIN_CAPACITY = 100_000;
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5); // Covers clock skew between instances
+    private final RefreshTokenFamilyRepository familyRepository;
+    private final Map<UUID, Instant> revokedFamilies = new ConcurrentHashMap<>(); // Family id -> when its tokens expire
+    private volatile RevocationBloomFilter bloomFilter = new RevocationBloomFilter(MIN_CAPACITY);
+    private volatile Instant lastSync; // Null until seeded
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        Instant started = Instant.now();
+        List<RevokedFamily> revoked = familyRepository.findRevokedSince(Instant.EPOCH);
+        revoked.forEach(family -> revokedFamilies.put(family.familyId(), family.expiresAt()));
+        rebuildBloomFilter();
+        lastSync = started;
+        log.info("Refresh token revocations seeded with {} families", revoked.size());
+    }
+
+    // The jti to issue next, or empty (revoking the family on reuse) when the token may not be exchanged
+    public Optional<UUID> rotate(JwtUtil.VerifiedToken token) {
+        if (isRevoked(token.familyId())) {
+            return Optional.empty();
+        }
+        UUID next = UUID.randomUUID();
+        if (familyRepository.rotate(token.familyId(), token.userId(), token.tokenId(), next, Instant.now().plus(JwtUtil.REFRESH_TOKEN_TTL))) {
+            return Optional.of(next);
+        }
+
+        Optional<UUID> successor = familyRepository.findSuccessorWithinGrace(token.familyId(), token.tokenId(), REUSE_GRACE);
+        if (successor.isEmpty()) {
+            log.warn("Refresh token reuse detected for user {}, revoking its family", token.userId());
+            revokeFamily(token);
+        }
+        return successor;
+    }
+
+    // Newer tokens in the family may have been issued since, so the row lives as long as any of them could
+    public void revokeFamily(JwtUtil.VerifiedToken token) {
+        Instant expiresAt = Instant.now().plus(JwtUtil.REFRESH_TOKEN_TTL);
+        familyRepository.revoke(token.familyId(), token.userId(), expiresAt);
+        markRevoked(token.familyId(), expiresAt);
+    }
+
+    public boolean isRevoked(UUID familyId) {
+        return bloomFilter.mightContain(familyId) && revokedFamilies.containsKey(familyId);
+    }
+
+    // Pulls revocations recorded by other instances. Until one arrives, that instance's families are still
+    // refused by the conditional upsert, just with a round-trip.
+    @Scheduled(fixedDelayString = "${app.refresh-tokens.sync-interval-ms:5000}")
+    public void sync() {
+        if (lastSync == null) {
+            return;
+        }
+        Instant started = Instant.now();
+        familyRepository.findRevokedSince(lastSync.minus(SYNC_OVERLAP))
+                .forEach(family -> markRevoked(family.familyId(), family.expiresAt()));
+        lastSync = started;
+        if (revokedFamilies.size() > bloomFilter.capacity()) {
+            rebuildBloomFilter();
+        }
+    }
+
+    // Bloom filters can't forget, so expired entries are dropped by rebuilding from the exact set
+    @Scheduled(cron = "0 17 * * * *")
+    public void purgeExpired() {
+        int deleted = familyRepository.deleteExpired();
+        Instant now = Instant.now();
+        revokedFamilies.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        rebuildBloomFilter();
+        log.info("Purged {} expired refresh token families, {} revoked remain", deleted, revokedFamilies.size());
+    }
+
+    private void markRevoked(UUID familyId, Instant expiresAt) {
+        if (revokedFamilies.putIfAbsent(familyId, expiresAt) == null) {
+            addToBloomFilter(familyId);
+        }
+    }
+
+    // Adds and rebuilds share the lock so an id added mid-rebuild can't land in the filter being replaced
+    private synchronized void addToBloomFilter(UUID id) {
+        bloomFilter.add(id);
+    }
+
+    private synchronized void rebuildBloomFilter() {
+        RevocationBloomFilter rebuilt = new RevocationBloomFilter(Math.max(MIN_CAPACITY, revokedFamilies.size() * 2));
+        revokedFamilies.keySet().forEach(rebuilt::add);
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,65 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.config.AppProperties;
+import com.komori.predictions.entity.FixtureEntity;
+import com.komori.predictions.entity.FixtureStatus;
+import com.komori.predictions.entity.Team;
+import com.komori.predictions.event.ScoresAppliedEvent;
+import com.komori.predictions.exception.FixtureNotFoundException;
+import com.komori.predictions.repository.FixtureRepository;
+import com.komori.predictions.repository.LeagueStandingRepository;
+import com.komori.predictions.repository.ScoringRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoringService {
+    private final FixtureRepository fixtureRepository;
+    private final AppProperties appProperties;
+    private final ScoringRepository scoringRepository;
+    private final LeagueStandingRepository standingRepository;
+    private final StandingsSnapshotService snapshotService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public void recordResult(Long fixtureId, int homeScore, int awayScore, List<String> homeScorers, List<String> awayScorers) {
+        FixtureEntity fixture = fixtureRepository.findById(fixtureId)
+                .orElseThrow(FixtureNotFoundException::new);
+
+        fixture.setHomeScore(homeScore);
+        fixture.setAwayScore(awayScore);
+        fixture.setHomeScorers(homeScorers.toArray(String[]::new));
+        fixture.setAwayScorers(awayScorers.toArray(String[]::new));
+        fixture.setStatus(FixtureStatus.FINISHED);
+        fixtureRepository.saveAndFlush(fixture); // The scoring statement reads the result straight from the table
+
+        scoreFixture(fixture);
+    }
+
+    // Predictions, user totals and league points move in one statement; ranks follow in one more.
+    // Safe to re-run for a corrected result, since only the difference from the previous score is applied.
+    @Transactional
+    public void scoreFixture(FixtureEntity fixture) {
+        long start = System.nanoTime();
+        ScoringRepository.ScoringResult result = scoringRepository.scoreFixture(fixture.getId(), appProperties.getSeason(),
+                Team.fromFixtureName(fixture.getHomeTeam()), Team.fromFixtureName(fixture.getAwayTeam()));
+        if (!result.leagueIds().isEmpty()) {
+            standingRepository.rerank(result.leagueIds());
+        }
+
+        if (!fixtureRepository.existsByGameweekAndStatusNot(fixture.getGameweek(), FixtureStatus.FINISHED)) {
+            snapshotService.captureGameweek(fixture.getGameweek());
+        }
+
+        eventPublisher.publishEvent(new ScoresAppliedEvent(fixture.getId(), result.totalPointsByUser(), result.leagueIds()));
+        log.info("Scored fixture {}: {} users and {} leagues updated in {} ms", fixture.getId(),
+                result.totalPointsByUser().size(), result.leagueIds().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,37 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.dto.response.GameweekPosition;
+import com.komori.predictions.repository.LeagueSnapshotRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StandingsSnapshotService {
+    private final LeagueSnapshotRepository snapshotRepository;
+
+    // Called whenever a scored fixture leaves its gameweek fully finished; only the first call captures anything
+    @Transactional
+    public void captureGameweek(int gameweek) {
+        int leagues = snapshotRepository.captureAll(gameweek);
+        if (leagues > 0) {
+            log.info("Captured gameweek {} standings for {} leagues", gameweek, leagues);
+        }
+    }
+
+    // Reads the stored tables only; nothing is recomputed from predictions
+    public List<GameweekPosition> getHistory(Long leagueId, Long userId) {
+        return snapshotRepository.findPositions(leagueId, userId).stream()
+                .map(position -> GameweekPosition.builder()
+                        .gameweek(position.getGameweek())
+                        .points(position.getPoints())
+                        .rank(position.getRank())
+                        .build())
+                .toList();
+    }
+}
@@ -0,0 +1,133 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.dto.response.*;
+import com.komori.predictions.entity.Team;
+import com.komori.predictions.entity.UserEntity;
+import com.komori.predictions.repository.StatisticsRepository;
+import com.komori.predictions.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+// Statistics are served from the rollup tables the scoring pass maintains, never by aggregating predictions
+public class StatisticsService {
+    private static final Team[] TEAMS = Team.values();
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMM yyyy", Locale.ENGLISH);
+    private final StatisticsRepository statisticsRepository;
+    private final UserRepository userRepository;
+    private final GlobalLeaderboardService leaderboardService;
+
+    public PredictionStatistics getPredictionStatistics(String email) {
+        StatisticsRepository.Counts counts = statisticsRepository.findTotals(getUser(email).getId())
+                .map(StatisticsRepository.Totals::counts)
+                .orElse(StatisticsRepository.Counts.EMPTY);
+        return PredictionStatistics.builder()
+                .totalPredictions(counts.predictions())
+                .correctPredictions(counts.correct())
+                .exactScores(counts.exact())
+                .points(counts.points())
+                .accuracy(counts.accuracy())
+                .averagePoints((counts.predictions() == 0) ? 0 : (double) counts.points() / counts.predictions())
+                .build();
+    }
+
+    public UserStatistics getUserStatistics(String email) {
+        UserEntity user = getUser(email);
+        Optional<StatisticsRepository.Totals> totals = statisticsRepository.findTotals(user.getId());
+        StatisticsRepository.Counts counts = totals.map(StatisticsRepository.Totals::counts)
+                .orElse(StatisticsRepository.Counts.EMPTY);
+        GlobalRank rank = leaderboardService.getRankForPoints(user.getTotalPoints());
+        return UserStatistics.builder()
+                .totalPoints(user.getTotalPoints())
+                .globalRank(rank.getRank())
+                .totalPlayers(rank.getTotalPlayers())
+                .predictions(counts.predictions())
+                .accuracy(counts.accuracy())
+                .bestGameweek(totals.map(StatisticsRepository.Totals::bestGameweek).orElse(null))
+                .bestGameweekPoints(totals.map(StatisticsRepository.Totals::bestGameweekPoints).orElse(0))
+                .build();
+    }
+
+    public List<MonthlyPerformance> getMonthlyPerformance(String email) {
+        return statisticsRepository.findMonths(getUser(email).getId()).stream()
+                .map(month -> MonthlyPerformance.builder()
+                        .month(month.month().format(MONTH_FORMAT))
+                        .predictions(month.counts().predictions())
+                        .correct(month.counts().correct())
+                        .points(month.counts().points())
+                        .accuracy(month.counts().accuracy())
+                        .build())
+                .toList();
+    }
+
+    // Walks the packed per-team array in Team order; no per-request grouping or boxed map
+    public List<TeamPerformance> getTeamPerformance(String email) {
+        Optional<StatisticsRepository.Totals> totals = statisticsRepository.findTotals(getUser(email).getId());
+        if (totals.isEmpty()) {
+            return List.of();
+        }
+        List<TeamPerformance> teams = new ArrayList<>(TEAMS.length);
+        for (Team team : TEAMS) {
+            StatisticsRepository.Counts counts = totals.get().team(team);
+            teams.add(TeamPerformance.builder()
+                    .team(team.name())
+                    .predictions(counts.predictions())
+                    .correct(counts.correct())
+                    .points(counts.points())
+                    .accuracy(counts.accuracy())
+                    .build());
+        }
+        teams.sort(Comparator.comparingInt(TeamPerformance::getPoints).reversed());
+        return teams;
+    }
+
+    public StatisticsHighlights getHighlights(String email) {
+        StatisticsHighlights highlights = new StatisticsHighlights();
+        statisticsRepository.findTotals(getUser(email).getId()).ifPresent(totals -> {
+            if (totals.bestGameweek() != null) {
+                highlights.setBestGameweek(new StatisticsHighlights.BestGameweek(totals.bestGameweek(), totals.bestGameweekPoints()));
+            }
+            int[] weekdays = totals.weekdayPredictions();
+            int busiest = 0;
+            int counted = 0;
+            for (int i = 0; i < weekdays.length; i++) {
+                counted += weekdays[i];
+                if (weekdays[i] > weekdays[busiest]) {
+                    busiest = i;
+                }
+            }
+            if (counted > 0) {
+                String day = DayOfWeek.of(busiest + 1).getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+                highlights.setMostActiveDay(new StatisticsHighlights.MostActiveDay(day, Math.round(weekdays[busiest] * 100f / counted)));
+            }
+
+            Team favourite = null;
+            for (Team team : TEAMS) {
+                if (totals.team(team).predictions() > 0
+                        && (favourite == null || totals.team(team).predictions() > totals.team(favourite).predictions())) {
+                    favourite = team;
+                }
+            }
+            if (favourite != null) {
+                highlights.setFavoriteFixture(new StatisticsHighlights.FavoriteFixture(favourite.name(), totals.team(favourite).accuracy()));
+            }
+        });
+        return highlights;
+    }
+
+    private UserEntity getUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("Email not found"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.komori.predictions.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+@Slf4j
+// Hashed timing wheel: scheduling is O(1) and each tick only looks at one bucket, however many timers are pending.
+// Timers further out than one revolution carry a round count. Tasks run on the wheel's own thread and may fire up to one tick late.
+class TimingWheel implements AutoCloseable {
+    private final long tickMillis;
+    private final List<List<Timeout>> buckets;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startMillis;
+    private long tick; // Only touched by the worker thread
+
+    TimingWheel(String name, Duration tickDuration, int size) {
+        this.tickMillis = tickDuration.toMillis();
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        this.startMillis = System.currentTimeMillis();
+        this.worker = Thread.ofPlatform().name(name).daemon().start(this::run);
+    }
+
+    void schedule(Instant when, Runnable task) {
+        pending.add(new Timeout(when.toEpochMilli(), task));
+    }
+
+    @Override
+    public void close() {
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long sleepMillis = startMillis + (tick + 1) * tickMillis - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            transferPending();
+            expire(buckets.get((int) (tick % buckets.size())));
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            long targetTick = Math.max((timeout.deadlineMillis - startMillis) / tickMillis, tick); // Overdue timers fire this tick
+            timeout.rounds = (targetTick - tick) / buckets.size();
+            buckets.get((int) (targetTick % buckets.size())).add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                continue;
+            }
+            iterator.remove();
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                log.error("Timing wheel task failed", e); // Tasks that need a retry schedule it themselves
+            }
+        }
+    }
+
+    private static class Timeout {
+        private final long deadlineMillis;
+        private final Runnable task;
+        private long rounds;
+
+        private Timeout(long deadlineMillis, Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+    }
+}
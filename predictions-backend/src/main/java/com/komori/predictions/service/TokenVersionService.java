@@ -0,0 +1,31 @@
+package com.komori.predictions.service;
+
+import com.komori.predictions.config.CacheConfig;
+import com.komori.predictions.event.CredentialsChangedEvent;
+import com.komori.predictions.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+// Current token version per user, cached so authenticating a request needs no query in the common case
+public class TokenVersionService {
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    // Null for a deleted user, which is cached too so their tokens keep failing cheaply
+    @Cacheable(CacheConfig.TOKEN_VERSIONS)
+    public Integer currentVersion(Long userId) {
+        return userRepository.findTokenVersionById(userId).orElse(null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCredentialsChanged(CredentialsChangedEvent event) {
+        Objects.requireNonNull(cacheManager.getCache(CacheConfig.TOKEN_VERSIONS)).evict(event.userId());
+    }
+}
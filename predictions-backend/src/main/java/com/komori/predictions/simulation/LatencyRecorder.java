@@ -0,0 +1,55 @@
+package com.komori.predictions.simulation;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Collects per-operation latencies for one phase and summarises them as throughput and percentiles
+class LatencyRecorder {
+    private final String phase;
+    private final AtomicLong errors = new AtomicLong();
+    private long[] samples = new long[1024];
+    private int size;
+    private long startNanos;
+    private long elapsedNanos;
+
+    LatencyRecorder(String phase) {
+        this.phase = phase;
+    }
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        elapsedNanos += System.nanoTime() - startNanos;
+    }
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void recordError() {
+        errors.incrementAndGet();
+    }
+
+    synchronized String summary() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+        return String.format("%-16s ops=%-9d errors=%-6d throughput=%10.1f/s  p50=%8.2fms  p90=%8.2fms  p99=%8.2fms  max=%8.2fms",
+                phase, size, errors.get(), (seconds > 0) ? size / seconds : 0,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                (size > 0) ? sorted[size - 1] / 1e6 : 0);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,439 @@
+package com.komori.predictions.simulation;
+
+import com.komori.predictions.dto.request.PredictionRequest;
+import com.komori.predictions.dto.response.TeamPerformance;
+import com.komori.predictions.entity.Chip;
+import com.komori.predictions.entity.Publicity;
+import com.komori.predictions.entity.Team;
+import com.komori.predictions.exception.LeagueAlreadyJoinedException;
+import com.komori.predictions.security.JwtUtil;
+import com.komori.predictions.service.FixtureFeedParser;
+import com.komori.predictions.service.FixtureIngestionService;
+import com.komori.predictions.service.GlobalLeaderboardService;
+import com.komori.predictions.service.LeagueService;
+import com.komori.predictions.service.PredictionService;
+import com.komori.predictions.service.StatisticsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+@Slf4j
+@Component
+@Profile("simulator")
+@RequiredArgsConstructor
+// Generates a synthetic season and replays it through the real services: users join Zipf-distributed leagues,
+// every user predicts every gameweek, results go through feed ingestion and scoring, and standings are read
+// throughout. Logs throughput and latency percentiles per phase, then shuts the application down.
+public class SeasonSimulator {
+    private static final String[] TEAMS = {"Arsenal", "Aston Villa", "Bournemouth", "Brentford", "Brighton", "Burnley",
+            "Chelsea", "Crystal Palace", "Everton", "Fulham", "Leeds United", "Liverpool", "Manchester City",
+            "Manchester United", "Newcastle United", "Nottingham Forest", "Sunderland", "Tottenham Hotspur",
+            "West Ham United", "Wolves"};
+    private static final int USER_BATCH = 1_000;
+    private final SimulatorProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final LeagueService leagueService;
+    private final PredictionService predictionService;
+    private final FixtureIngestionService ingestionService;
+    private final GlobalLeaderboardService leaderboardService;
+    private final StatisticsService statisticsService;
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+
+    // After every other ready listener, so caches, leaderboard and lock scheduler are already seeded
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        Random random = new Random(properties.getSeed());
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        log.info("Simulating season {}: {}", runId, properties);
+
+        LatencyRecorder createUsers = new LatencyRecorder("create-users");
+        LatencyRecorder createLeagues = new LatencyRecorder("create-leagues");
+        LatencyRecorder joinLeagues = new LatencyRecorder("join-leagues");
+        LatencyRecorder ingestSeason = new LatencyRecorder("ingest-season");
+        LatencyRecorder submit = new LatencyRecorder("submit");
+        LatencyRecorder score = new LatencyRecorder("score");
+        LatencyRecorder standings = new LatencyRecorder("standings");
+        LatencyRecorder teamStats = new LatencyRecorder("team-stats");
+        LatencyRecorder teamStatsGroupBy = new LatencyRecorder("team-stats-groupby");
+        LatencyRecorder verifyTripleParse = new LatencyRecorder("jwt-verify-triple-parse");
+        LatencyRecorder verifyFirst = new LatencyRecorder("jwt-verify-first");
+        LatencyRecorder verifyRepeat = new LatencyRecorder("jwt-verify-repeat");
+        LatencyRecorder loginStorm = new LatencyRecorder("login-storm");
+        LatencyRecorder standingsInStorm = new LatencyRecorder("standings-storm");
+
+        List<String> emails = createUsers(runId, createUsers);
+        List<String> leagueUuids = createLeagues(runId, emails, random, createLeagues);
+        List<List<Integer>> members = joinLeagues(emails, leagueUuids, random, joinLeagues);
+        leaderboardService.seed(); // Pick up the inserted users
+
+        List<List<FixtureFeedParser.FeedFixture>> season = generateSeason(random);
+        ingestSeason.start();
+        long start = System.nanoTime();
+        ingestionService.ingest(season.stream().flatMap(List::stream).toList());
+        ingestSeason.record(System.nanoTime() - start);
+        ingestSeason.stop();
+
+        double[] leagueWeights = zipfCumulative(leagueUuids.size());
+        for (List<FixtureFeedParser.FeedFixture> gameweek : season) {
+            submitGameweek(emails, gameweek, random, submit);
+            scoreGameweek(gameweek, random, score);
+            readStandings(emails, leagueUuids, members, leagueWeights, random, standings);
+            log.info("Simulated gameweek {}", gameweek.getFirst().gameweek());
+        }
+        readTeamStatistics(emails, random, teamStats, teamStatsGroupBy);
+        runLoginStorm(emails, leagueUuids, members, leagueWeights, random, loginStorm, standingsInStorm);
+        verifyTokens(runId, verifyTripleParse, verifyFirst, verifyRepeat);
+
+        StringBuilder report = new StringBuilder("Season simulation report");
+        for (LatencyRecorder phase : List.of(createUsers, createLeagues, joinLeagues, ingestSeason, submit, score, standings,
+                teamStats, teamStatsGroupBy, verifyTripleParse, verifyFirst, verifyRepeat, loginStorm, standingsInStorm)) {
+            report.append(System.lineSeparator()).append(phase.summary());
+        }
+        log.info(report.toString());
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    // Registration needs an emailed OTP, so users are inserted directly in batches
+    private List<String> createUsers(String runId, LatencyRecorder recorder) {
+        List<String> emails = new ArrayList<>(properties.getUsers());
+        for (int i = 0; i < properties.getUsers(); i++) {
+            emails.add("sim-" + runId + "-" + i + "@example.invalid");
+        }
+        recorder.start();
+        for (int from = 0; from < emails.size(); from += USER_BATCH) {
+            List<Object[]> batch = new ArrayList<>(USER_BATCH);
+            for (String email : emails.subList(from, Math.min(from + USER_BATCH, emails.size()))) {
+                batch.add(new Object[] { UUID.randomUUID().toString(), email.substring(0, email.indexOf('@')), email });
+            }
+            long start = System.nanoTime();
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO user_entity (userid, username, first_name, last_name, email, password, account_verified,
+                                             total_points, created_at, updated_at)
+                    VALUES (?, ?, 'Sim', 'User', ?, 'not-a-password-hash', true, 0, LOCALTIMESTAMP, LOCALTIMESTAMP)
+                    """, batch);
+            recorder.record(System.nanoTime() - start);
+        }
+        recorder.stop();
+        return emails;
+    }
+
+    private List<String> createLeagues(String runId, List<String> emails, Random random, LatencyRecorder recorder) {
+        List<String> uuids = new ArrayList<>(properties.getLeagues());
+        recorder.start();
+        for (int i = 0; i < properties.getLeagues(); i++) {
+            String owner = emails.get(random.nextInt(emails.size()));
+            long start = System.nanoTime();
+            uuids.add(leagueService.createLeague(owner, "Sim " + runId + " #" + i, Publicity.PUBLIC).getUuid());
+            recorder.record(System.nanoTime() - start);
+        }
+        recorder.stop();
+        return uuids;
+    }
+
+    // Each user joins a geometric number of leagues (mean leaguesPerUser), picked by Zipf weight
+    private List<List<Integer>> joinLeagues(List<String> emails, List<String> leagueUuids, Random random,
+                                            LatencyRecorder recorder) {
+        double[] weights = zipfCumulative(leagueUuids.size());
+        double continueChance = 1 - 1 / Math.max(1.0, properties.getLeaguesPerUser());
+        List<List<Integer>> members = new ArrayList<>(leagueUuids.size());
+        for (int i = 0; i < leagueUuids.size(); i++) {
+            members.add(Collections.synchronizedList(new ArrayList<>()));
+        }
+
+        List<Runnable> joins = new ArrayList<>();
+        for (int user = 0; user < emails.size(); user++) {
+            Set<Integer> chosen = new HashSet<>();
+            do {
+                chosen.add(sample(weights, random));
+            } while (random.nextDouble() < continueChance && chosen.size() < leagueUuids.size());
+            for (int league : chosen) {
+                int userIndex = user;
+                joins.add(() -> {
+                    try {
+                        leagueService.joinPublicLeague(emails.get(userIndex), leagueUuids.get(league));
+                    } catch (LeagueAlreadyJoinedException e) {
+                        // The league's owner; already a member
+                    }
+                    members.get(league).add(userIndex);
+                });
+            }
+        }
+        Collections.shuffle(joins, random);
+        runConcurrently(joins, recorder);
+        return members;
+    }
+
+    // Double round robin over TEAMS (circle method), one gameweek per week starting a year out so nothing locks
+    private List<List<FixtureFeedParser.FeedFixture>> generateSeason(Random random) {
+        int teams = TEAMS.length;
+        List<List<int[]>> rounds = new ArrayList<>();
+        int[] rotation = new int[teams];
+        for (int i = 0; i < teams; i++) {
+            rotation[i] = i;
+        }
+        for (int round = 0; round < teams - 1; round++) {
+            List<int[]> pairs = new ArrayList<>();
+            for (int i = 0; i < teams / 2; i++) {
+                int a = rotation[i];
+                int b = rotation[teams - 1 - i];
+                pairs.add(((round + i) % 2 == 0) ? new int[] { a, b } : new int[] { b, a });
+            }
+            rounds.add(pairs);
+            int last = rotation[teams - 1];
+            System.arraycopy(rotation, 1, rotation, 2, teams - 2);
+            rotation[1] = last;
+        }
+        for (int round = 0; round < teams - 1; round++) {
+            rounds.add(rounds.get(round).stream().map(pair -> new int[] { pair[1], pair[0] }).toList());
+        }
+
+        Instant seasonStart = Instant.now().plus(Duration.ofDays(365)).truncatedTo(ChronoUnit.HOURS);
+        long id = properties.getFixtureIdOffset();
+        List<List<FixtureFeedParser.FeedFixture>> season = new ArrayList<>();
+        for (int gameweek = 1; gameweek <= Math.min(properties.getGameweeks(), rounds.size()); gameweek++) {
+            Instant weekStart = seasonStart.plus(Duration.ofDays(7L * (gameweek - 1)));
+            List<FixtureFeedParser.FeedFixture> fixtures = new ArrayList<>();
+            for (int[] pair : rounds.get(gameweek - 1)) {
+                Instant kickoff = weekStart.plus(Duration.ofMinutes(150L * random.nextInt(4)));
+                fixtures.add(new FixtureFeedParser.FeedFixture(id++, gameweek, TEAMS[pair[0]], TEAMS[pair[1]], kickoff,
+                        "SCHEDULED", null, null, null, null));
+            }
+            season.add(fixtures);
+        }
+        return season;
+    }
+
+    private void submitGameweek(List<String> emails, List<FixtureFeedParser.FeedFixture> gameweek, Random random,
+                                LatencyRecorder recorder) {
+        List<Runnable> submissions = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            boolean playChip = random.nextDouble() < properties.getChipRate();
+            List<PredictionRequest> requests = new ArrayList<>(gameweek.size());
+            for (FixtureFeedParser.FeedFixture fixture : gameweek) {
+                requests.add(PredictionRequest.builder()
+                        .matchId(fixture.id())
+                        .gameweek(fixture.gameweek())
+                        .homeScore(goals(random))
+                        .awayScore(goals(random))
+                        .chips((playChip && requests.isEmpty()) ? List.of(Chip.DOUBLE_DOWN) : List.of())
+                        .build());
+            }
+            submissions.add(() -> predictionService.submitPredictions(email, requests));
+        }
+        runConcurrently(submissions, recorder);
+    }
+
+    // Results arrive one fixture at a time, as they would from a live feed
+    private void scoreGameweek(List<FixtureFeedParser.FeedFixture> gameweek, Random random, LatencyRecorder recorder) {
+        recorder.start();
+        gameweek.stream()
+                .sorted(Comparator.comparing(FixtureFeedParser.FeedFixture::kickoff))
+                .forEach(fixture -> {
+                    FixtureFeedParser.FeedFixture result = new FixtureFeedParser.FeedFixture(fixture.id(), null, null,
+                            null, null, "FT", goals(random), goals(random), List.of(), List.of());
+                    long start = System.nanoTime();
+                    try {
+                        ingestionService.ingest(List.of(result));
+                        recorder.record(System.nanoTime() - start);
+                    } catch (RuntimeException e) {
+                        recorder.recordError();
+                        log.warn("Scoring fixture {} failed: {}", fixture.id(), e.getMessage());
+                    }
+                });
+        recorder.stop();
+    }
+
+    // Popular leagues are read more often, half as top-20 pages and half as "around me" windows
+    private void readStandings(List<String> emails, List<String> leagueUuids, List<List<Integer>> members,
+                               double[] leagueWeights, Random random, LatencyRecorder recorder) {
+        List<Runnable> reads = new ArrayList<>(properties.getStandingsReadsPerGameweek());
+        for (int i = 0; i < properties.getStandingsReadsPerGameweek(); i++) {
+            int league = sample(leagueWeights, random);
+            List<Integer> leagueMembers = members.get(league);
+            String uuid = leagueUuids.get(league);
+            if (leagueMembers.isEmpty() || random.nextBoolean()) {
+                reads.add(() -> leagueService.getTopStandings(uuid, 20));
+            } else {
+                String email = emails.get(leagueMembers.get(random.nextInt(leagueMembers.size())));
+                reads.add(() -> leagueService.getStandingsAroundUser(email, uuid, 5));
+            }
+        }
+        runConcurrently(reads, recorder);
+    }
+
+    // Team performance for random users once the season is played, when every team_stats array is at full width.
+    // The same users go through the GROUP BY baseline first, so team-stats-groupby against team-stats is the cost
+    // of what the packed array replaced against the packed array itself.
+    private void readTeamStatistics(List<String> emails, Random random, LatencyRecorder packed, LatencyRecorder groupBy) {
+        List<String> readers = new ArrayList<>(properties.getTeamStatisticsReads());
+        for (int i = 0; i < properties.getTeamStatisticsReads(); i++) {
+            readers.add(emails.get(random.nextInt(emails.size())));
+        }
+        runConcurrently(readers.stream().<Runnable>map(email -> () -> teamPerformanceByGroupBy(email)).toList(), groupBy);
+        runConcurrently(readers.stream().<Runnable>map(email -> () -> statisticsService.getTeamPerformance(email)).toList(), packed);
+    }
+
+    // Baseline only: a GROUP BY over the user's scored predictions per team, collected into a boxed Map<Team, ...>
+    private List<TeamPerformance> teamPerformanceByGroupBy(String email) {
+        Map<Team, TeamPerformance> byTeam = new HashMap<>();
+        jdbcTemplate.query("""
+                        SELECT t.team, count(*) AS predictions, count(*) FILTER (WHERE p.outcome >= 1) AS correct,
+                               COALESCE(sum(p.points), 0) AS points
+                        FROM prediction_entity p
+                                 JOIN user_entity u ON u.id = p.user_id
+                                 JOIN fixture_entity f ON f.id = p.fixture_id
+                                 CROSS JOIN LATERAL (VALUES (f.home_team), (f.away_team)) AS t(team)
+                        WHERE u.email = ? AND p.outcome IS NOT NULL
+                        GROUP BY t.team
+                        """,
+                rs -> {
+                    Team team = Team.fromFixtureName(rs.getString("team"));
+                    if (team != null) {
+                        int predictions = rs.getInt("predictions");
+                        int correct = rs.getInt("correct");
+                        byTeam.put(team, TeamPerformance.builder()
+                                .team(team.name())
+                                .predictions(predictions)
+                                .correct(correct)
+                                .points(rs.getInt("points"))
+                                .accuracy((predictions == 0) ? 0 : Math.round(correct * 100f / predictions))
+                                .build());
+                    }
+                }, email);
+        List<TeamPerformance> teams = new ArrayList<>();
+        for (Team team : Team.values()) {
+            teams.add(byTeam.getOrDefault(team, TeamPerformance.builder().team(team.name()).build()));
+        }
+        teams.sort(Comparator.comparingInt(TeamPerformance::getPoints).reversed());
+        return teams;
+    }
+
+    // The request filter's path: one access token per user, verified once with a full signature check and parse,
+    // then again as every later request with the same cookie would be, from the digest cache. The same tokens go
+    // through the old triple-parse path first, so jwt-verify-triple-parse is the before figure.
+    private void verifyTokens(String runId, LatencyRecorder tripleParse, LatencyRecorder first, LatencyRecorder repeat) {
+        List<String> tokens = jdbcTemplate.query("SELECT id, email FROM user_entity WHERE email LIKE ?",
+                (rs, rowNum) -> jwtUtil.createAccessTokenCookie(rs.getLong("id"), rs.getString("email"), 0).getValue(),
+                "sim-" + runId + "-%");
+        String secret = environment.getRequiredProperty("jwt.secret.key");
+        runConcurrently(tokens.stream().<Runnable>map(token -> () -> verifyByTripleParse(token, secret)).toList(), tripleParse);
+        for (LatencyRecorder recorder : List.of(first, repeat)) {
+            List<Runnable> verifications = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                verifications.add(() -> jwtUtil.verify(token).orElseThrow());
+            }
+            runConcurrently(verifications, recorder);
+        }
+    }
+
+    // Baseline only: what JwtRequestFilter did before. extractEmailFromToken, then validateAccessToken parsing
+    // again for the subject and once more for the expiry, each call building a new key and parser.
+    private static void verifyByTripleParse(String token, String secret) {
+        String email = parseClaims(token, secret).getSubject();
+        if (!email.equals(parseClaims(token, secret).getSubject()) || parseClaims(token, secret).getExpiration().before(new Date())) {
+            throw new IllegalStateException("Token rejected");
+        }
+    }
+
+    private static Claims parseClaims(String token, String secret) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    // Password checks far beyond the hashing pool's threads and queue, with standings read alongside. Rejected checks
+    // (429s) count as errors in login-storm; standings-storm against standings shows what the storm costs other reads.
+    private void runLoginStorm(List<String> emails, List<String> leagueUuids, List<List<Integer>> members,
+                               double[] leagueWeights, Random random, LatencyRecorder logins, LatencyRecorder standings) {
+        String password = "sim-password";
+        String hash = passwordEncoder.encode(password);
+        List<Runnable> checks = new ArrayList<>(properties.getLoginStormAttempts());
+        for (int i = 0; i < properties.getLoginStormAttempts(); i++) {
+            checks.add(() -> passwordEncoder.matches(password, hash));
+        }
+        Thread storm = Thread.ofVirtual().start(() -> runConcurrently(checks, logins, properties.getLoginStormConcurrency()));
+        readStandings(emails, leagueUuids, members, leagueWeights, random, standings);
+        try {
+            storm.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runConcurrently(List<Runnable> tasks, LatencyRecorder recorder) {
+        runConcurrently(tasks, recorder, properties.getConcurrency());
+    }
+
+    // At most "concurrency" tasks in flight, each on its own virtual thread
+    private void runConcurrently(List<Runnable> tasks, LatencyRecorder recorder, int concurrency) {
+        Semaphore permits = new Semaphore(concurrency);
+        recorder.start();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Runnable task : tasks) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        task.run();
+                        recorder.record(System.nanoTime() - start);
+                    } catch (RuntimeException e) {
+                        recorder.recordError();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        recorder.stop();
+    }
+
+    private double[] zipfCumulative(int size) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            total += 1 / Math.pow(rank, properties.getLeagueSkew());
+            cumulative[rank - 1] = total;
+        }
+        return cumulative;
+    }
+
+    private static int sample(double[] cumulative, Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        return Math.min((index >= 0) ? index : -index - 1, cumulative.length - 1);
+    }
+
+    // Roughly the Premier League's distribution of goals per side
+    private static int goals(Random random) {
+        double roll = random.nextDouble();
+        return (roll < 0.25) ? 0 : (roll < 0.60) ? 1 : (roll < 0.83) ? 2 : (roll < 0.94) ? 3 : 4;
+    }
+}
@@ -0,0 +1,30 @@
+package com.komori.predictions.simulation;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("simulator")
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "app.simulator")
+public class SimulatorProperties {
+    private int users = 10_000;
+    private int leagues = 500;
+    private double leaguesPerUser = 2.0; // Mean; the count per user is geometric, so most join one or two
+    private double leagueSkew = 1.1; // Zipf exponent: a few very large leagues and a long tail of small ones
+    private int gameweeks = 38;
+    private int concurrency = 32;
+    private int standingsReadsPerGameweek = 2_000;
+    private int teamStatisticsReads = 10_000;
+    private int loginStormAttempts = 5_000;
+    private int loginStormConcurrency = 256; // Well past the hashing pool's threads plus queue
+    private double chipRate = 0.05; // Share of users playing DOUBLE_DOWN each gameweek
+    private long fixtureIdOffset = 9_000_000_000L; // Keeps simulated fixtures clear of real feed ids
+    private long seed = 42;
+}
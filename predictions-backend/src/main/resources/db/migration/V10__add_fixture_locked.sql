@@ -0,0 +1,6 @@
+ALTER TABLE fixture_entity
+    ADD locked BOOLEAN NOT NULL DEFAULT false;
+
+UPDATE fixture_entity
+SET locked = true
+WHERE kickoff <= now();
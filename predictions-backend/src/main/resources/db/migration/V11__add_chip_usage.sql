@@ -0,0 +1,14 @@
+-- usage[i] is a bitmask of the gameweeks in which the chip with ordinal i - 1 was played (bit n = gameweek n)
+CREATE TABLE chip_usage
+(
+    user_id BIGINT       NOT NULL,
+    season  VARCHAR(255) NOT NULL,
+    usage   BIGINT[]     NOT NULL,
+    CONSTRAINT chip_usage_pkey PRIMARY KEY (user_id, season)
+);
+
+ALTER TABLE chip_usage
+    ADD CONSTRAINT fk_chip_usage_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+-- Lets chip rules check other predictions in the same gameweek
+CREATE INDEX idx_prediction_entity_user_gameweek ON prediction_entity (user_id, gameweek);
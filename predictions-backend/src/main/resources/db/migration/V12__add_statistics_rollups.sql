@@ -0,0 +1,135 @@
+-- 0 wrong, 1 correct result, 2 exact score. Kept so a re-score can back the previous outcome out of the rollups
+ALTER TABLE prediction_entity
+    ADD outcome SMALLINT;
+
+-- Rollups below are maintained by the scoring statement; "correct" includes exact scores
+CREATE TABLE user_statistics
+(
+    user_id              BIGINT    NOT NULL,
+    predictions          INTEGER   NOT NULL DEFAULT 0,
+    correct              INTEGER   NOT NULL DEFAULT 0,
+    exact                INTEGER   NOT NULL DEFAULT 0,
+    points               INTEGER   NOT NULL DEFAULT 0,
+    weekday_predictions  INTEGER[] NOT NULL DEFAULT '{0,0,0,0,0,0,0}', -- Monday first, by when the prediction was made
+    best_gameweek        INTEGER,
+    best_gameweek_points INTEGER   NOT NULL DEFAULT 0,
+    CONSTRAINT user_statistics_pkey PRIMARY KEY (user_id)
+);
+
+CREATE TABLE user_month_statistics
+(
+    user_id     BIGINT  NOT NULL,
+    month       DATE    NOT NULL, -- First day of the kickoff month (UTC)
+    predictions INTEGER NOT NULL DEFAULT 0,
+    correct     INTEGER NOT NULL DEFAULT 0,
+    exact       INTEGER NOT NULL DEFAULT 0,
+    points      INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT user_month_statistics_pkey PRIMARY KEY (user_id, month)
+);
+
+CREATE TABLE user_gameweek_statistics
+(
+    user_id     BIGINT  NOT NULL,
+    gameweek    INTEGER NOT NULL,
+    predictions INTEGER NOT NULL DEFAULT 0,
+    correct     INTEGER NOT NULL DEFAULT 0,
+    exact       INTEGER NOT NULL DEFAULT 0,
+    points      INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT user_gameweek_statistics_pkey PRIMARY KEY (user_id, gameweek)
+);
+
+-- A prediction counts towards both of its fixture's teams
+CREATE TABLE user_team_statistics
+(
+    user_id     BIGINT       NOT NULL,
+    team        VARCHAR(255) NOT NULL,
+    predictions INTEGER      NOT NULL DEFAULT 0,
+    correct     INTEGER      NOT NULL DEFAULT 0,
+    exact       INTEGER      NOT NULL DEFAULT 0,
+    points      INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT user_team_statistics_pkey PRIMARY KEY (user_id, team)
+);
+
+ALTER TABLE user_statistics
+    ADD CONSTRAINT fk_user_statistics_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+ALTER TABLE user_month_statistics
+    ADD CONSTRAINT fk_user_month_statistics_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+ALTER TABLE user_gameweek_statistics
+    ADD CONSTRAINT fk_user_gameweek_statistics_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+ALTER TABLE user_team_statistics
+    ADD CONSTRAINT fk_user_team_statistics_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+-- Backfill from predictions scored before the rollups existed
+UPDATE prediction_entity p
+SET outcome = CASE
+                  WHEN p.home_score = f.home_score AND p.away_score = f.away_score THEN 2
+                  WHEN sign(p.home_score - p.away_score) = sign(f.home_score - f.away_score) THEN 1
+                  ELSE 0
+              END
+FROM fixture_entity f
+WHERE f.id = p.fixture_id
+  AND p.status = 'SCORED';
+
+INSERT INTO user_month_statistics (user_id, month, predictions, correct, exact, points)
+SELECT p.user_id,
+       date_trunc('month', f.kickoff AT TIME ZONE 'UTC')::date,
+       count(*),
+       count(*) FILTER (WHERE p.outcome >= 1),
+       count(*) FILTER (WHERE p.outcome = 2),
+       sum(p.points)
+FROM prediction_entity p
+         JOIN fixture_entity f ON f.id = p.fixture_id
+WHERE p.status = 'SCORED'
+GROUP BY 1, 2;
+
+INSERT INTO user_gameweek_statistics (user_id, gameweek, predictions, correct, exact, points)
+SELECT user_id,
+       gameweek,
+       count(*),
+       count(*) FILTER (WHERE outcome >= 1),
+       count(*) FILTER (WHERE outcome = 2),
+       sum(points)
+FROM prediction_entity
+WHERE status = 'SCORED'
+GROUP BY 1, 2;
+
+INSERT INTO user_team_statistics (user_id, team, predictions, correct, exact, points)
+SELECT p.user_id,
+       t.team,
+       count(*),
+       count(*) FILTER (WHERE p.outcome >= 1),
+       count(*) FILTER (WHERE p.outcome = 2),
+       sum(p.points)
+FROM prediction_entity p
+         JOIN fixture_entity f ON f.id = p.fixture_id
+         CROSS JOIN LATERAL (VALUES (f.home_team), (f.away_team)) AS t(team)
+WHERE p.status = 'SCORED'
+GROUP BY 1, 2;
+
+INSERT INTO user_statistics (user_id, predictions, correct, exact, points, weekday_predictions)
+SELECT user_id,
+       count(*),
+       count(*) FILTER (WHERE outcome >= 1),
+       count(*) FILTER (WHERE outcome = 2),
+       sum(points),
+       ARRAY(SELECT count(*) FILTER (WHERE EXTRACT(ISODOW FROM p2.predicted_at) = d)::int
+             FROM prediction_entity p2
+                      CROSS JOIN generate_series(1, 7) AS d
+             WHERE p2.user_id = p.user_id
+               AND p2.status = 'SCORED'
+             GROUP BY d
+             ORDER BY d)
+FROM prediction_entity p
+WHERE status = 'SCORED'
+GROUP BY user_id;
+
+UPDATE user_statistics s
+SET best_gameweek        = best.gameweek,
+    best_gameweek_points = best.points
+FROM (SELECT DISTINCT ON (user_id) user_id, gameweek, points
+      FROM user_gameweek_statistics
+      ORDER BY user_id, points DESC, gameweek) AS best
+WHERE s.user_id = best.user_id;
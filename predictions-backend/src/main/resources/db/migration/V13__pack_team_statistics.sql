@@ -0,0 +1,51 @@
+-- Per-team counters move onto the user's totals row as one flat array, four slots per Team ordinal:
+-- (predictions, correct, exact, points). Team performance is then read together with the totals.
+ALTER TABLE user_statistics
+    ADD team_stats INTEGER[] NOT NULL DEFAULT '{}';
+
+-- Same name matching as Team.fromFixtureName, with the ordinals as of this migration:
+-- ARSENAL, CHELSEA, LIVERPOOL, MANCITY, MANUTD, SPURS, ASTONVILLA, BOURNEMOUTH, BRENTFORD, BRIGHTON, BURNLEY,
+-- CRYSTALPALACE, EVERTON, FULHAM, LEEDS, NEWCASTLE, NOTTINGHAMFOREST, SUNDERLAND, WESTHAM, WOLVES.
+-- Rows for any other club (relegated sides from earlier seasons) are kept in user_team_statistics_legacy.
+CREATE TEMPORARY TABLE team_slot (slot INTEGER PRIMARY KEY, pattern TEXT[] NOT NULL) ON COMMIT DROP;
+INSERT INTO team_slot (slot, pattern)
+VALUES (0, '{ARSENAL%}'),
+       (1, '{CHELSEA%}'),
+       (2, '{LIVERPOOL%}'),
+       (3, '{MANCITY%,MANCHESTERCITY%}'),
+       (4, '{MANUTD%,MANUNITED%,MANCHESTERUNITED%,MANCHESTERUTD%}'),
+       (5, '{SPURS%,TOTTENHAM%}'),
+       (6, '{ASTONVILLA%}'),
+       (7, '{BOURNEMOUTH%,AFCBOURNEMOUTH%}'),
+       (8, '{BRENTFORD%}'),
+       (9, '{BRIGHTON%}'),
+       (10, '{BURNLEY%}'),
+       (11, '{CRYSTALPALACE%}'),
+       (12, '{EVERTON%}'),
+       (13, '{FULHAM%}'),
+       (14, '{LEEDS%}'),
+       (15, '{NEWCASTLE%}'),
+       (16, '{NOTTINGHAMFOREST%,NOTTINGHAM%,NOTTMFOREST%}'),
+       (17, '{SUNDERLAND%}'),
+       (18, '{WESTHAM%}'),
+       (19, '{WOLVES%,WOLVERHAMPTON%}');
+
+CREATE TEMPORARY TABLE team_stat_mapped ON COMMIT DROP AS
+SELECT t.*,
+       (SELECT min(ts.slot) FROM team_slot ts WHERE k.key LIKE ANY (ts.pattern)) AS slot
+FROM user_team_statistics t
+         CROSS JOIN LATERAL (SELECT upper(regexp_replace(t.team, '[^A-Za-z]', '', 'g')) AS key) k;
+
+UPDATE user_statistics s
+SET team_stats = ARRAY(SELECT COALESCE(SUM((ARRAY [m.predictions, m.correct, m.exact, m.points])[i % 4 + 1]), 0)::int
+                       FROM generate_series(0, 79) AS i
+                                LEFT JOIN team_stat_mapped m ON m.user_id = s.user_id AND m.slot = i / 4
+                       GROUP BY i
+                       ORDER BY i);
+
+CREATE TABLE user_team_statistics_legacy AS
+SELECT user_id, team, predictions, correct, exact, points
+FROM team_stat_mapped
+WHERE slot IS NULL;
+
+DROP TABLE user_team_statistics;
@@ -0,0 +1,13 @@
+-- Copied from the fixture so a user's history can be keyset-paged on (kickoff, id) from one index
+ALTER TABLE prediction_entity
+    ADD kickoff TIMESTAMP WITH TIME ZONE;
+
+UPDATE prediction_entity p
+SET kickoff = f.kickoff
+FROM fixture_entity f
+WHERE f.id = p.fixture_id;
+
+ALTER TABLE prediction_entity
+    ALTER COLUMN kickoff SET NOT NULL;
+
+CREATE INDEX idx_prediction_entity_user_kickoff ON prediction_entity (user_id, kickoff DESC, id DESC);
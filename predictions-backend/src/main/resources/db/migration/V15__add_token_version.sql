@@ -0,0 +1,2 @@
+-- Stamped into access and refresh tokens; bumping it revokes every token issued before
+ALTER TABLE user_entity ADD COLUMN token_version INTEGER NOT NULL DEFAULT 0;
@@ -0,0 +1,21 @@
+-- One row per refresh token session (family). current_jti is the only generation that may be exchanged;
+-- previous_jti is honoured briefly after a rotation so two tabs refreshing together both get the current one.
+-- A row is only needed until every token of its family has expired, after which it is purged.
+CREATE TABLE refresh_token_family
+(
+    family_id    UUID        NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    current_jti  UUID        NOT NULL,
+    previous_jti UUID,
+    rotated_at   TIMESTAMPTZ,
+    revoked_at   TIMESTAMPTZ,
+    expires_at   TIMESTAMPTZ NOT NULL,
+    CONSTRAINT refresh_token_family_pkey PRIMARY KEY (family_id)
+);
+
+ALTER TABLE refresh_token_family
+    ADD CONSTRAINT fk_refresh_token_family_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+-- Instances pull each other's revocations incrementally by revoked_at
+CREATE INDEX idx_refresh_token_family_revoked_at ON refresh_token_family (revoked_at) WHERE revoked_at IS NOT NULL;
+CREATE INDEX idx_refresh_token_family_expires_at ON refresh_token_family (expires_at);
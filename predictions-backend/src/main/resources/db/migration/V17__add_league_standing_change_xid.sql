@@ -0,0 +1,9 @@
+-- Id of the transaction that last changed the row. Live standings poll by it instead of changed_at: changed_at is
+-- the transaction's start time, so a scoring pass that commits late lands behind a watermark already handed out.
+-- Pollers keep the oldest transaction still running at their last tick (pg_snapshot_xmin) as the watermark, and
+-- every transaction that wasn't visible then has an id at or above it.
+ALTER TABLE league_standing
+    ADD change_xid BIGINT NOT NULL DEFAULT (pg_current_xact_id()::text::bigint);
+
+DROP INDEX idx_league_standing_changed;
+CREATE INDEX idx_league_standing_change_xid ON league_standing (league_id, change_xid);
@@ -0,0 +1,2 @@
+-- Lets ingestion find finished fixtures whose predictions were never scored without scanning scored ones
+CREATE INDEX idx_prediction_entity_pending_fixture ON prediction_entity (fixture_id) WHERE status = 'PENDING';
@@ -0,0 +1,12 @@
+-- A gameweek's standings are frozen once, when its last fixture is first scored; later re-scores leave them alone
+CREATE TABLE captured_gameweek
+(
+    gameweek    INTEGER                     NOT NULL,
+    captured_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT captured_gameweek_pkey PRIMARY KEY (gameweek)
+);
+
+INSERT INTO captured_gameweek (gameweek, captured_at)
+SELECT gameweek, COALESCE(min(captured_at), now())
+FROM league_standing_snapshot
+GROUP BY gameweek;
@@ -0,0 +1,31 @@
+CREATE TABLE league_standing
+(
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    league_id     BIGINT                                  NOT NULL,
+    user_id       BIGINT                                  NOT NULL,
+    points        INTEGER                                 NOT NULL,
+    current_rank  INTEGER                                 NOT NULL,
+    previous_rank INTEGER,
+    CONSTRAINT league_standing_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_league_standing_league_user UNIQUE (league_id, user_id)
+);
+
+ALTER TABLE league_standing
+    ADD CONSTRAINT fk_league_standing_league FOREIGN KEY (league_id) REFERENCES league_entity (id) ON DELETE CASCADE;
+
+ALTER TABLE league_standing
+    ADD CONSTRAINT fk_league_standing_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+-- Standings are always read in table order, so the index matches it
+CREATE INDEX idx_league_standing_order ON league_standing (league_id, points DESC, user_id);
+
+CREATE INDEX idx_league_standing_user ON league_standing (user_id);
+
+-- Backfill from existing memberships
+INSERT INTO league_standing (league_id, user_id, points, current_rank)
+SELECT ul.league_id,
+       ul.user_id,
+       u.total_points,
+       RANK() OVER (PARTITION BY ul.league_id ORDER BY u.total_points DESC)
+FROM user_league_table ul
+         JOIN user_entity u ON u.id = ul.user_id;
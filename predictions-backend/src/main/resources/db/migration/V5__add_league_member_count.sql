@@ -0,0 +1,8 @@
+ALTER TABLE league_entity
+    ADD member_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE league_entity l
+SET member_count = (SELECT COUNT(*) FROM user_league_table ul WHERE ul.league_id = l.id);
+
+-- The primary key leads with league_id, so lookups by member need their own index
+CREATE INDEX idx_user_league_table_user ON user_league_table (user_id);
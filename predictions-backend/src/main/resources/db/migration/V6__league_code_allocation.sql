@@ -0,0 +1,18 @@
+-- Public leagues used to store an empty code; NULL keeps them out of the unique index
+UPDATE league_entity
+SET league_code = NULL
+WHERE league_code = '';
+
+-- Concurrent creates under the old check-then-insert generator could share a code; the oldest league keeps it
+-- and the others get a 10 character code, which can't clash with the 6 character codes issued from here on
+UPDATE league_entity l
+SET league_code = upper(substr(md5(l.id::text || ':' || l.league_code), 1, 10))
+FROM (SELECT id, row_number() OVER (PARTITION BY league_code ORDER BY id) AS n
+      FROM league_entity
+      WHERE league_code IS NOT NULL) d
+WHERE l.id = d.id AND d.n > 1;
+
+CREATE UNIQUE INDEX uk_league_entity_league_code ON league_entity (league_code);
+
+-- Feeds LeagueCodeAllocator, which permutes each value into a 6 character code
+CREATE SEQUENCE IF NOT EXISTS league_code_seq START WITH 1 INCREMENT BY 1;
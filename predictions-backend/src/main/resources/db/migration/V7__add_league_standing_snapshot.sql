@@ -0,0 +1,14 @@
+-- One row per (league, gameweek); the arrays are parallel and stored in table order
+CREATE TABLE league_standing_snapshot
+(
+    league_id   BIGINT    NOT NULL,
+    gameweek    INTEGER   NOT NULL,
+    user_ids    BIGINT[]  NOT NULL,
+    points      INTEGER[] NOT NULL,
+    ranks       INTEGER[] NOT NULL,
+    captured_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT league_standing_snapshot_pkey PRIMARY KEY (league_id, gameweek)
+);
+
+ALTER TABLE league_standing_snapshot
+    ADD CONSTRAINT fk_league_standing_snapshot_league FOREIGN KEY (league_id) REFERENCES league_entity (id) ON DELETE CASCADE;
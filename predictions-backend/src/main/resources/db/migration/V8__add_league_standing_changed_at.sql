@@ -0,0 +1,5 @@
+-- Lets live standings streams fetch only the rows that moved since their last tick
+ALTER TABLE league_standing
+    ADD changed_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX idx_league_standing_changed ON league_standing (league_id, changed_at);
@@ -0,0 +1,47 @@
+-- Fixture ids are the match ids from the fixtures feed, so predictions can reference them directly
+CREATE TABLE fixture_entity
+(
+    id           BIGINT                   NOT NULL,
+    gameweek     INTEGER                  NOT NULL,
+    home_team    VARCHAR(255)             NOT NULL,
+    away_team    VARCHAR(255)             NOT NULL,
+    kickoff      TIMESTAMP WITH TIME ZONE NOT NULL,
+    home_score   INTEGER,
+    away_score   INTEGER,
+    home_scorers TEXT[]                   NOT NULL DEFAULT '{}',
+    away_scorers TEXT[]                   NOT NULL DEFAULT '{}',
+    status       VARCHAR(255)             NOT NULL,
+    updated_at   TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT fixture_entity_pkey PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_fixture_entity_gameweek ON fixture_entity (gameweek);
+
+CREATE INDEX idx_fixture_entity_kickoff ON fixture_entity (kickoff);
+
+CREATE TABLE prediction_entity
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    user_id      BIGINT                                  NOT NULL,
+    fixture_id   BIGINT                                  NOT NULL,
+    gameweek     INTEGER                                 NOT NULL,
+    home_score   INTEGER                                 NOT NULL,
+    away_score   INTEGER                                 NOT NULL,
+    home_scorers TEXT[]                                  NOT NULL DEFAULT '{}',
+    away_scorers TEXT[]                                  NOT NULL DEFAULT '{}',
+    chips        TEXT[]                                  NOT NULL DEFAULT '{}',
+    points       INTEGER,
+    status       VARCHAR(255)                            NOT NULL,
+    predicted_at TIMESTAMP WITHOUT TIME ZONE,
+    CONSTRAINT prediction_entity_pkey PRIMARY KEY (id),
+    CONSTRAINT uk_prediction_entity_user_fixture UNIQUE (user_id, fixture_id)
+);
+
+ALTER TABLE prediction_entity
+    ADD CONSTRAINT fk_prediction_entity_user FOREIGN KEY (user_id) REFERENCES user_entity (id) ON DELETE CASCADE;
+
+ALTER TABLE prediction_entity
+    ADD CONSTRAINT fk_prediction_entity_fixture FOREIGN KEY (fixture_id) REFERENCES fixture_entity (id) ON DELETE CASCADE;
+
+-- Scoring reads every prediction for one fixture
+CREATE INDEX idx_prediction_entity_fixture ON prediction_entity (fixture_id);